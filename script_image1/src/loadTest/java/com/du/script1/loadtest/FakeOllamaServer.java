@@ -0,0 +1,124 @@
+package com.du.script1.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 로컬 Ollama 대체 서버 (/api/chat 만 지원)
+ * - latencyMs: 첫 바이트까지의 지연 (모델 prefill 시간 흉내)
+ * - stream 요청이거나 forceStream이면 NDJSON 청크를 chunkDelayMs 간격으로 전송
+ */
+public class FakeOllamaServer implements AutoCloseable {
+
+    private static final String ANSWER = """
+## 가격 비교
+상품A가 상품B보다 더 저렴합니다.
+
+## 가격 추이 분석
+최근 3개월 동안 상품A의 가격은 안정적이었습니다.
+
+## 종합 추천
+가격과 안정성을 고려하면 상품A를 추천합니다.
+""";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMs;
+    private final long chunkDelayMs;
+    private final int chunks;
+    private final boolean forceStream;
+
+    private FakeOllamaServer(long latencyMs, long chunkDelayMs, int chunks, boolean forceStream) throws IOException {
+        this.latencyMs = latencyMs;
+        this.chunkDelayMs = chunkDelayMs;
+        this.chunks = Math.max(1, chunks);
+        this.forceStream = forceStream;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 256);
+        this.executor = Executors.newCachedThreadPool();
+        this.server.setExecutor(executor);
+        this.server.createContext("/api/chat", this::handleChat);
+    }
+
+    static FakeOllamaServer start(LoadTestConfig config) throws IOException {
+        FakeOllamaServer fake = new FakeOllamaServer(
+            config.ollamaLatencyMs, config.ollamaChunkDelayMs, config.ollamaChunks, config.ollamaForceStream);
+        fake.server.start();
+        return fake;
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void handleChat(HttpExchange exchange) throws IOException {
+        try {
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            String model = request.path("model").asText("fake");
+            boolean stream = forceStream || request.path("stream").asBoolean(true);
+
+            sleep(latencyMs);
+
+            if (!stream) {
+                byte[] body = objectMapper.writeValueAsBytes(message(model, ANSWER, true));
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+                return;
+            }
+
+            // 길이 0 → chunked 전송
+            exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream out = exchange.getResponseBody();
+
+            int step = (ANSWER.length() + chunks - 1) / chunks;
+            for (int start = 0; start < ANSWER.length(); start += step) {
+                String piece = ANSWER.substring(start, Math.min(ANSWER.length(), start + step));
+                out.write(objectMapper.writeValueAsBytes(message(model, piece, false)));
+                out.write('\n');
+                out.flush();
+                sleep(chunkDelayMs);
+            }
+            out.write(objectMapper.writeValueAsBytes(message(model, "", true)));
+            out.write('\n');
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private ObjectNode message(String model, String content, boolean done) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("model", model);
+        ObjectNode message = node.putObject("message");
+        message.put("role", "assistant");
+        message.put("content", content);
+        node.put("done", done);
+        return node;
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,104 @@
+package com.du.script1.loadtest;
+
+import com.du.script1.loadtest.LoadTestConfig.Endpoint;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 워커 스레드별 지연 시간 기록 (스레드 간 공유 없음)
+ * - 측정 종료 후 merge 하여 엔드포인트별 백분위수 계산
+ */
+class LatencyRecorder {
+
+    private final Map<Endpoint, long[]> samples = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, Integer> sizes = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, Integer> errors = new EnumMap<>(Endpoint.class);
+
+    void record(Endpoint endpoint, long nanos, boolean success) {
+        if (!success) {
+            errors.merge(endpoint, 1, Integer::sum);
+            return;
+        }
+
+        long[] values = samples.computeIfAbsent(endpoint, e -> new long[1024]);
+        int size = sizes.getOrDefault(endpoint, 0);
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+            samples.put(endpoint, values);
+        }
+        values[size] = nanos;
+        sizes.put(endpoint, size + 1);
+    }
+
+    /**
+     * 전체 워커 결과 합산 → 엔드포인트별/전체 통계
+     */
+    static Map<String, Object> summarize(List<LatencyRecorder> recorders, double elapsedSeconds) {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        long[] all = new long[0];
+        int totalErrors = 0;
+
+        for (Endpoint endpoint : Endpoint.values()) {
+            long[] merged = new long[0];
+            int errorCount = 0;
+            for (LatencyRecorder recorder : recorders) {
+                int size = recorder.sizes.getOrDefault(endpoint, 0);
+                if (size > 0) {
+                    long[] values = recorder.samples.get(endpoint);
+                    int offset = merged.length;
+                    merged = Arrays.copyOf(merged, offset + size);
+                    System.arraycopy(values, 0, merged, offset, size);
+                }
+                errorCount += recorder.errors.getOrDefault(endpoint, 0);
+            }
+            if (merged.length == 0 && errorCount == 0) {
+                continue;
+            }
+
+            endpoints.put(endpoint.label, stats(merged, errorCount, elapsedSeconds));
+
+            int offset = all.length;
+            all = Arrays.copyOf(all, offset + merged.length);
+            System.arraycopy(merged, 0, all, offset, merged.length);
+            totalErrors += errorCount;
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("total", stats(all, totalErrors, elapsedSeconds));
+        result.put("endpoints", endpoints);
+        return result;
+    }
+
+    private static Map<String, Object> stats(long[] nanos, int errorCount, double elapsedSeconds) {
+        Arrays.sort(nanos);
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", nanos.length + errorCount);
+        stats.put("errors", errorCount);
+        stats.put("throughputRps", round((nanos.length + errorCount) / elapsedSeconds));
+        stats.put("p50Ms", percentileMillis(nanos, 50));
+        stats.put("p95Ms", percentileMillis(nanos, 95));
+        stats.put("p99Ms", percentileMillis(nanos, 99));
+        stats.put("maxMs", nanos.length == 0 ? 0.0 : round(nanos[nanos.length - 1] / 1_000_000.0));
+        return stats;
+    }
+
+    /**
+     * nearest-rank 백분위수
+     */
+    private static double percentileMillis(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return round(sorted[Math.max(0, rank - 1)] / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
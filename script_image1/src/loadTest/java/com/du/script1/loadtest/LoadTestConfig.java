@@ -0,0 +1,117 @@
+package com.du.script1.loadtest;
+
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 부하 테스트 설정
+ * - 인자 형식: --key=value (예: --concurrency=32 --duration=60 --mix=search:70,products:30)
+ */
+public class LoadTestConfig {
+
+    int concurrency = 16;
+    int warmupSeconds = 5;
+    int durationSeconds = 30;
+    Map<Endpoint, Integer> mix = new EnumMap<>(Map.of(
+        Endpoint.SEARCH, 60,
+        Endpoint.PRODUCTS, 10,
+        Endpoint.SIMILAR_IMAGES, 20,
+        Endpoint.COMPARE, 10
+    ));
+
+    long ollamaLatencyMs = 200;
+    long ollamaChunkDelayMs = 20;
+    int ollamaChunks = 8;
+    boolean ollamaForceStream = false;
+    long similarityLatencyMs = 0;
+
+    Path output = Path.of("build", "loadtest", "result.json");
+    String appLogLevel = "WARN";
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자 형식 오류 (--key=value): " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        LoadTestConfig config = new LoadTestConfig();
+        config.concurrency = intOption(options, "concurrency", config.concurrency);
+        config.warmupSeconds = intOption(options, "warmup", config.warmupSeconds);
+        config.durationSeconds = intOption(options, "duration", config.durationSeconds);
+        config.ollamaLatencyMs = intOption(options, "ollama-latency-ms", (int) config.ollamaLatencyMs);
+        config.ollamaChunkDelayMs = intOption(options, "ollama-chunk-delay-ms", (int) config.ollamaChunkDelayMs);
+        config.ollamaChunks = intOption(options, "ollama-chunks", config.ollamaChunks);
+        config.ollamaForceStream = Boolean.parseBoolean(options.getOrDefault("ollama-stream", "false"));
+        config.similarityLatencyMs = intOption(options, "similarity-latency-ms", (int) config.similarityLatencyMs);
+        config.appLogLevel = options.getOrDefault("app-log-level", config.appLogLevel);
+
+        if (options.containsKey("output")) {
+            config.output = Path.of(options.get("output"));
+        }
+        if (options.containsKey("mix")) {
+            config.mix = parseMix(options.get("mix"));
+        }
+
+        options.keySet().removeAll(Set.of(
+            "concurrency", "warmup", "duration", "ollama-latency-ms", "ollama-chunk-delay-ms",
+            "ollama-chunks", "ollama-stream", "similarity-latency-ms", "app-log-level", "output", "mix"));
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("알 수 없는 옵션: " + options.keySet());
+        }
+        return config;
+    }
+
+    /**
+     * 요청 비율 파싱 (예: search:60,compare:10)
+     */
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix 형식 오류: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Endpoint.fromName(pair[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("mix에 최소 하나의 엔드포인트가 필요합니다");
+        }
+        return mix;
+    }
+
+    private static int intOption(Map<String, String> options, String key, int defaultValue) {
+        return options.containsKey(key) ? Integer.parseInt(options.get(key)) : defaultValue;
+    }
+
+    enum Endpoint {
+        SEARCH("search"),
+        COMPARE("compare"),
+        SIMILAR_IMAGES("similar-images"),
+        PRODUCTS("products");
+
+        final String label;
+
+        Endpoint(String label) {
+            this.label = label;
+        }
+
+        static Endpoint fromName(String name) {
+            for (Endpoint endpoint : values()) {
+                if (endpoint.label.equals(name)) {
+                    return endpoint;
+                }
+            }
+            throw new IllegalArgumentException("알 수 없는 엔드포인트: " + name);
+        }
+    }
+}
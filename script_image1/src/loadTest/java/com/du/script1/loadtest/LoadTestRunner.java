@@ -0,0 +1,291 @@
+package com.du.script1.loadtest;
+
+import com.du.script1.Script1Application;
+import com.du.script1.loadtest.LoadTestConfig.Endpoint;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 엔드투엔드 부하 테스트
+ * - 가짜 Ollama 서버와 sh 유사도 스크립트로 외부 의존성 없이 애플리케이션 기동
+ * - 설정한 동시성/요청 비율로 /api/search, /api/compare, /api/similar-images, /api/products 호출
+ * - 엔드포인트별 p50/p95/p99 지연 시간과 처리량을 JSON으로 출력
+ *
+ * 실행: ./gradlew loadTest -PloadTestArgs="--concurrency=32 --duration=60"
+ */
+public class LoadTestRunner implements AutoCloseable {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 200 응답이어도 본문으로 실패를 알리는 경우
+    private static final String COMPARE_ERROR_PREFIX = "비교 분석 중 오류가 발생했습니다";
+    private static final String COMPARE_NOT_FOUND = "선택한 상품을 찾을 수 없습니다.";
+
+    private final LoadTestConfig config;
+    private final ExecutorService httpExecutor;
+    private final HttpClient client;
+    private final String baseUrl;
+    private final List<Long> pcodes;
+    private final List<String> queries;
+    private final Endpoint[] weightedEndpoints;
+
+    private LoadTestRunner(LoadTestConfig config, String baseUrl, List<Long> pcodes, List<String> queries) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.pcodes = pcodes;
+        this.queries = queries;
+        this.httpExecutor = Executors.newFixedThreadPool(Math.max(2, config.concurrency));
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(httpExecutor)
+            .build();
+
+        List<Endpoint> weighted = new ArrayList<>();
+        config.mix.forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) weighted.add(endpoint);
+        });
+        this.weightedEndpoints = weighted.toArray(new Endpoint[0]);
+    }
+
+    /**
+     * 실패 시 스택 트레이스 출력 후 0이 아닌 코드로 종료 (남은 비데몬 스레드로 gradle 이 멈추지 않도록)
+     */
+    public static void main(String[] args) {
+        int exitCode = 1;
+        try {
+            execute(LoadTestConfig.parse(args));
+            exitCode = 0;
+        } catch (Throwable e) {
+            System.err.println("부하 테스트 실패: " + e);
+            e.printStackTrace();
+        }
+        System.exit(exitCode);
+    }
+
+    private static void execute(LoadTestConfig config) throws Exception {
+        Path workDir = Files.createTempDirectory("script1-loadtest");
+
+        try (FakeOllamaServer ollama = FakeOllamaServer.start(config)) {
+            StubSimilarityScript similarity = StubSimilarityScript.create(workDir, config.similarityLatencyMs);
+
+            ConfigurableApplicationContext app = SpringApplication.run(Script1Application.class,
+                "--server.port=0",
+                "--ollama.host=" + ollama.baseUrl(),
+                "--python.path=sh",
+                "--similarity.script.path=" + similarity.path().toAbsolutePath(),
+                "--catalog.snapshot.path=" + workDir.resolve("catalog.snapshot").toAbsolutePath(),
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=" + config.appLogLevel,
+                "--logging.level.com.du.script1=" + config.appLogLevel);
+
+            String baseUrl = "http://127.0.0.1:" + app.getEnvironment().getProperty("local.server.port");
+            try (LoadTestRunner runner = LoadTestRunner.connect(config, baseUrl)) {
+                similarity.writeProductIds(runner.pcodes);
+
+                Map<String, Object> report = runner.run();
+                String json = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report);
+
+                Path output = config.output.toAbsolutePath();
+                Files.createDirectories(output.getParent());
+                Files.writeString(output, json);
+                System.out.println(json);
+                System.err.println("결과 저장: " + output);
+            } finally {
+                app.close();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        httpExecutor.shutdownNow();
+    }
+
+    /**
+     * 카탈로그를 조회해 요청에 사용할 pcode/검색어 준비
+     */
+    private static LoadTestRunner connect(LoadTestConfig config, String baseUrl) throws Exception {
+        HttpClient bootstrap = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpResponse<String> response = bootstrap.send(
+            HttpRequest.newBuilder(URI.create(baseUrl + "/api/products")).GET().build(),
+            HttpResponse.BodyHandlers.ofString());
+
+        List<Long> pcodes = new ArrayList<>();
+        Set<String> queries = new LinkedHashSet<>();
+        for (JsonNode product : objectMapper.readTree(response.body())) {
+            pcodes.add(product.get("pcode").asLong());
+
+            String[] words = product.path("productName").asText("")
+                .replace(" : 다나와 가격비교", "")
+                .trim()
+                .split("\\s+");
+            if (words.length > 0 && !words[0].isEmpty()) {
+                queries.add(words[0]);
+            }
+            if (words.length > 1) {
+                queries.add(words[0] + " " + words[1]);
+            }
+        }
+
+        if (pcodes.size() < 2) {
+            throw new IllegalStateException("카탈로그 상품이 부족합니다: " + pcodes.size());
+        }
+        return new LoadTestRunner(config, baseUrl, pcodes, new ArrayList<>(queries));
+    }
+
+    private Map<String, Object> run() throws Exception {
+        if (config.warmupSeconds > 0) {
+            System.err.printf("워밍업 %d초...%n", config.warmupSeconds);
+            drive(config.warmupSeconds);
+        }
+
+        System.err.printf("측정 %d초 (동시성 %d)...%n", config.durationSeconds, config.concurrency);
+        long start = System.nanoTime();
+        List<LatencyRecorder> recorders = drive(config.durationSeconds);
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("concurrency", config.concurrency);
+        settings.put("warmupSeconds", config.warmupSeconds);
+        settings.put("durationSeconds", config.durationSeconds);
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        config.mix.forEach((endpoint, weight) -> mix.put(endpoint.label, weight));
+        settings.put("mix", mix);
+        settings.put("ollamaLatencyMs", config.ollamaLatencyMs);
+        settings.put("ollamaChunkDelayMs", config.ollamaChunkDelayMs);
+        settings.put("ollamaStream", config.ollamaForceStream);
+        settings.put("similarityLatencyMs", config.similarityLatencyMs);
+        settings.put("catalogSize", pcodes.size());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", settings);
+        report.put("elapsedSeconds", Math.round(elapsedSeconds * 1000.0) / 1000.0);
+        report.putAll(LatencyRecorder.summarize(recorders, elapsedSeconds));
+        return report;
+    }
+
+    /**
+     * 동시성 수만큼 워커를 돌려 지정 시간 동안 요청 (closed-loop)
+     */
+    private List<LatencyRecorder> drive(int seconds) throws Exception {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        ExecutorService workers = Executors.newFixedThreadPool(config.concurrency);
+
+        try {
+            List<Future<LatencyRecorder>> futures = new ArrayList<>();
+            for (int i = 0; i < config.concurrency; i++) {
+                futures.add(workers.submit(() -> {
+                    LatencyRecorder recorder = new LatencyRecorder();
+                    while (System.nanoTime() < deadline) {
+                        Endpoint endpoint = weightedEndpoints[ThreadLocalRandom.current().nextInt(weightedEndpoints.length)];
+                        HttpRequest request = buildRequest(endpoint);
+
+                        long begin = System.nanoTime();
+                        boolean success;
+                        try {
+                            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                            success = isSuccess(endpoint, response);
+                        } catch (Exception e) {
+                            success = false;
+                        }
+                        recorder.record(endpoint, System.nanoTime() - begin, success);
+                    }
+                    return recorder;
+                }));
+            }
+
+            List<LatencyRecorder> recorders = new ArrayList<>();
+            for (Future<LatencyRecorder> future : futures) {
+                recorders.add(future.get());
+            }
+            return recorders;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * 상태 코드 + 엔드포인트별 본문 확인
+     * - similar-images: "success": true
+     * - compare: analysis 존재, 오류/미존재 안내 문구가 아님
+     */
+    private static boolean isSuccess(Endpoint endpoint, HttpResponse<byte[]> response) {
+        if (response.statusCode() >= 400) {
+            return false;
+        }
+
+        try {
+            return switch (endpoint) {
+                case SIMILAR_IMAGES -> objectMapper.readTree(response.body()).path("success").asBoolean(false);
+                case COMPARE -> {
+                    JsonNode analysis = objectMapper.readTree(response.body()).get("analysis");
+                    yield analysis != null && analysis.isTextual()
+                        && !analysis.asText().startsWith(COMPARE_ERROR_PREFIX)
+                        && !analysis.asText().equals(COMPARE_NOT_FOUND);
+                }
+                case SEARCH, PRODUCTS -> true;
+            };
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private HttpRequest buildRequest(Endpoint endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        return switch (endpoint) {
+            case SEARCH -> get("/api/search?query="
+                + URLEncoder.encode(queries.get(random.nextInt(queries.size())), StandardCharsets.UTF_8));
+            case PRODUCTS -> get("/api/products");
+            case SIMILAR_IMAGES -> get("/api/similar-images?top=10&pcode=" + randomPcode(random));
+            case COMPARE -> {
+                long pcode1 = randomPcode(random);
+                long pcode2 = randomPcode(random);
+                while (pcode2 == pcode1) {
+                    pcode2 = randomPcode(random);
+                }
+                String body = "{\"pcode1\":" + pcode1 + ",\"pcode2\":" + pcode2 + "}";
+                yield HttpRequest.newBuilder(URI.create(baseUrl + "/api/compare"))
+                    .timeout(Duration.ofSeconds(60))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            }
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(Duration.ofSeconds(60))
+            .GET()
+            .build();
+    }
+
+    private long randomPcode(ThreadLocalRandom random) {
+        return pcodes.get(random.nextInt(pcodes.size()));
+    }
+}
@@ -0,0 +1,72 @@
+package com.du.script1.loadtest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * similarity_search.py 대체 sh 스크립트
+ * - Python/Weaviate 없이 ImageSimilarityService의 프로세스 호출 경로를 그대로 사용
+ * - 상품 ID 목록 파일을 읽어 요청 ID를 제외한 상위 N개를 similarity_search.py와 같은 JSON으로 출력
+ */
+class StubSimilarityScript {
+
+    private final Path script;
+    private final Path idsFile;
+
+    private StubSimilarityScript(Path script, Path idsFile) {
+        this.script = script;
+        this.idsFile = idsFile;
+    }
+
+    static StubSimilarityScript create(Path workDir, long latencyMs) throws IOException {
+        Path idsFile = workDir.resolve("product-ids.txt");
+        Files.writeString(idsFile, "");
+
+        String sleep = latencyMs > 0
+            ? String.format(Locale.ROOT, "sleep %.3f%n", latencyMs / 1000.0)
+            : "";
+
+        String content = """
+#!/bin/sh
+# usage: similarity-stub.sh --id <product_id> --top <n>
+ID="$2"
+TOP="$4"
+%s
+printf '{"success": true, "query_product_id": "%%s", "similar_images": [' "$ID"
+i=0
+sep=""
+for p in $(cat "%s"); do
+  [ "$i" -ge "$TOP" ] && break
+  [ "$p" = "$ID" ] && continue
+  printf '%%s{"product_id": "%%s", "image_name": "%%s.jpg", "similarity": 0.%%03d}' "$sep" "$p" "$p" $((990 - i))
+  sep=","
+  i=$((i + 1))
+done
+printf ']}\\n'
+""".formatted(sleep, idsFile.toAbsolutePath());
+
+        Path script = workDir.resolve("similarity-stub.sh");
+        Files.writeString(script, content, StandardCharsets.UTF_8);
+        script.toFile().setExecutable(true);
+        return new StubSimilarityScript(script, idsFile);
+    }
+
+    /**
+     * 스크립트가 결과로 돌려줄 상품 ID 목록 갱신
+     */
+    void writeProductIds(List<Long> pcodes) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (Long pcode : pcodes) {
+            sb.append(pcode).append('\n');
+        }
+        Files.writeString(idsFile, sb.toString());
+    }
+
+    Path path() {
+        return script;
+    }
+}
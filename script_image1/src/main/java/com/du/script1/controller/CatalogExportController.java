@@ -0,0 +1,75 @@
+package com.du.script1.controller;
+
+import com.du.script1.service.CatalogExportService;
+import com.du.script1.service.CatalogExportService.Column;
+import com.du.script1.service.CatalogExportService.Format;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class CatalogExportController {
+
+    private final CatalogExportService catalogExportService;
+
+    /**
+     * 카탈로그 내보내기 API
+     * - 비동기 스트리밍이라 요청 스레드를 점유하지 않음
+     * - 동시 내보내기가 상한(catalog.export.max-concurrent)에 도달하면 429
+     * - 예: /api/export/catalog?format=ndjson&columns=pcode,productName,priceMin&gzip=true
+     */
+    @GetMapping("/api/export/catalog")
+    @ResponseBody
+    public ResponseEntity<?> exportCatalog(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) String columns,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+
+        Format exportFormat;
+        List<Column> exportColumns;
+        try {
+            exportFormat = Format.from(format);
+            exportColumns = catalogExportService.parseColumns(columns);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+
+        if (!catalogExportService.tryAcquirePermit()) {
+            log.warn("카탈로그 내보내기 거부: 동시 내보내기 {}개 진행 중", catalogExportService.getMaxConcurrent());
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "10")
+                .body(Map.of("error", "진행 중인 내보내기가 많습니다. 잠시 후 다시 시도하세요."));
+        }
+
+        log.info("카탈로그 내보내기 요청: format={}, columns={}, gzip={}", exportFormat, exportColumns, gzip);
+
+        String fileName = "catalog." + exportFormat.extension + (gzip ? ".gz" : "");
+        MediaType contentType = gzip
+            ? MediaType.parseMediaType("application/gzip")
+            : MediaType.parseMediaType(exportFormat.contentType + ";charset=UTF-8");
+
+        // 슬롯은 스트리밍이 끝나거나 실패한 뒤 반환
+        StreamingResponseBody body = out -> {
+            try {
+                catalogExportService.export(exportFormat, exportColumns, gzip, out);
+            } finally {
+                catalogExportService.releasePermit();
+            }
+        };
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+            .contentType(contentType)
+            .body(body);
+    }
+}
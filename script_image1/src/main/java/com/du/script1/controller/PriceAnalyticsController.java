@@ -0,0 +1,78 @@
+package com.du.script1.controller;
+
+import com.du.script1.service.PriceAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+@RequestMapping("/api/analytics/price")
+public class PriceAnalyticsController {
+
+    private final PriceAnalyticsService priceAnalyticsService;
+
+    /**
+     * 상품별 기간 통계 API
+     */
+    @GetMapping("/{pcode}")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> productStats(@PathVariable Long pcode) {
+        Map<String, Object> result = priceAnalyticsService.getProductStats(pcode);
+        return result != null ? ResponseEntity.ok(result) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * 가격 하락폭 랭킹 API (기본: 최근 1개월)
+     */
+    @GetMapping("/drops")
+    @ResponseBody
+    public ResponseEntity<?> biggestDrops(
+            @RequestParam(defaultValue = "1") String window,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<Map<String, Object>> result = priceAnalyticsService.biggestDrops(window, limit);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 가격대별 가격 안정 상품 랭킹 API
+     */
+    @GetMapping("/stable")
+    @ResponseBody
+    public ResponseEntity<?> mostStable(
+            @RequestParam(defaultValue = "3") String window,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<Map<String, Object>> result = priceAnalyticsService.mostStable(window, minPrice, maxPrice, limit);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 역대 최저가 근접 상품 랭킹 API
+     */
+    @GetMapping("/near-low")
+    @ResponseBody
+    public ResponseEntity<?> nearAllTimeLow(
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            return ResponseEntity.ok(priceAnalyticsService.nearAllTimeLow(limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
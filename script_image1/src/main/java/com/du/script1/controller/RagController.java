@@ -2,14 +2,21 @@ package com.du.script1.controller;
 
 import com.du.script1.domain.Product;
 import com.du.script1.repository.ProductRepository;
+import com.du.script1.service.FuzzySearchService;
 import com.du.script1.service.RagService;
 import com.du.script1.service.ImageSimilarityService;
+import com.du.script1.service.SearchCacheService;
+import com.du.script1.service.TextSimilarityService;
+import com.du.script1.service.TypeaheadService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -21,6 +28,10 @@ public class RagController {
     private final RagService ragService;
     private final ProductRepository productRepository;
     private final ImageSimilarityService imageSimilarityService;
+    private final TypeaheadService typeaheadService;
+    private final SearchCacheService searchCacheService;
+    private final TextSimilarityService textSimilarityService;
+    private final FuzzySearchService fuzzySearchService;
 
     @GetMapping("/api/products")
     @ResponseBody
@@ -33,10 +44,41 @@ public class RagController {
      */
     @GetMapping("/api/search")
     @ResponseBody
-    public ResponseEntity<Map<String, Object>> searchProducts(@RequestParam String query) {
+    public void searchProducts(@RequestParam String query, HttpServletResponse response) throws IOException {
         log.info("검색 API: {}", query);
-        Map<String, Object> result = ragService.searchAndStructure(query);
-        return ResponseEntity.ok(result);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        searchCacheService.search(query, response.getOutputStream());
+    }
+
+    /**
+     * 검색 캐시 통계 API
+     */
+    @GetMapping("/api/search/cache-stats")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> searchCacheStats() {
+        return ResponseEntity.ok(searchCacheService.getStats());
+    }
+
+    /**
+     * 오타 허용 검색어 확장 확인 API
+     * - 예: /api/search/fuzzy-terms?query=유무차 → 유모차 (거리 1)
+     */
+    @GetMapping("/api/search/fuzzy-terms")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> fuzzyTerms(@RequestParam String query) {
+        return ResponseEntity.ok(fuzzySearchService.explain(query));
+    }
+
+    /**
+     * 검색어 자동완성 API
+     * - limit 최대값은 typeahead.top-n (기본 10), 범위를 벗어나면 보정 후 응답에 requestedLimit/maxLimit 표시
+     */
+    @GetMapping("/api/typeahead")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> typeahead(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(typeaheadService.suggest(prefix, limit));
     }
 
     /**
@@ -64,12 +106,45 @@ public class RagController {
      */
     @GetMapping("/api/similar-images")
     @ResponseBody
-    public ResponseEntity<Map<String, Object>> searchSimilarImages(
+    public ResponseEntity<byte[]> searchSimilarImages(
             @RequestParam String pcode,
-            @RequestParam(defaultValue = "10") int top) {
+            @RequestParam(defaultValue = "10") int top) throws IOException {
         
         log.info("유사 이미지 검색 요청: pcode={}, top={}", pcode, top);
-        Map<String, Object> result = imageSimilarityService.searchSimilarImages(pcode, top);
-        return ResponseEntity.ok(result);
+        byte[] result = imageSimilarityService.searchSimilarImages(pcode, top);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(result);
+    }
+
+    /**
+     * 상품명/스펙 기반 유사 상품 검색 API
+     */
+    @GetMapping("/api/similar-specs")
+    @ResponseBody
+    public ResponseEntity<?> searchSimilarSpecs(
+            @RequestParam Long pcode,
+            @RequestParam(defaultValue = "10") int top) {
+        try {
+            return ResponseEntity.ok(textSimilarityService.findSimilar(pcode, top));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * 중복 의심 상품 API (pcode 생략 시 카탈로그 전체)
+     */
+    @GetMapping("/api/duplicates")
+    @ResponseBody
+    public ResponseEntity<?> findDuplicates(
+            @RequestParam(required = false) Long pcode,
+            @RequestParam(required = false) Double threshold,
+            @RequestParam(defaultValue = "50") int limit) {
+        try {
+            return ResponseEntity.ok(textSimilarityService.findDuplicates(pcode, threshold, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
     }
 }
@@ -0,0 +1,16 @@
+package com.du.script1.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 카탈로그 파생 인덱스 재구성 완료 이벤트
+ * - CatalogLoadedEvent 리스너(인덱스/사전 인코딩 조각 등)가 모두 끝난 뒤 발행
+ * - 파생 인덱스로 만든 결과를 보관하는 캐시는 이 이벤트에서 무효화해야 이전 인덱스 기준 결과가 남지 않음
+ */
+@Getter
+@RequiredArgsConstructor
+public class CatalogIndexedEvent {
+
+    private final long version;
+}
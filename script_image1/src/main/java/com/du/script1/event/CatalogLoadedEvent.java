@@ -0,0 +1,35 @@
+package com.du.script1.event;
+
+import com.du.script1.domain.Product;
+import com.du.script1.util.ProductText;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카탈로그(상품 데이터) 로드 완료 이벤트
+ * - 메모리 인덱스 등 파생 구조는 이 이벤트를 받아 재구성
+ * - version은 로드할 때마다 증가 (리스너가 모두 끝나면 같은 version으로 CatalogIndexedEvent 발행)
+ */
+@Getter
+@RequiredArgsConstructor
+public class CatalogLoadedEvent {
+
+    private final long version;
+    private final List<Product> products;
+
+    private List<Map<String, List<String>>> specs;
+
+    /**
+     * 상품별 파싱된 스펙 (products 와 같은 순서)
+     * - 처음 요청한 리스너가 한 번만 파싱하고 나머지 리스너는 재사용
+     */
+    public synchronized List<Map<String, List<String>>> getSpecs() {
+        if (specs == null) {
+            specs = products.stream().map(ProductText::parseSpecs).toList();
+        }
+        return specs;
+    }
+}
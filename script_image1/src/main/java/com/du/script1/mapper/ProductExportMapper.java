@@ -0,0 +1,29 @@
+package com.du.script1.mapper;
+
+import com.du.script1.domain.Product;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
+
+import java.util.List;
+
+@Mapper
+public interface ProductExportMapper {
+
+    /**
+     * 상품 전체 커서 조회 (한 행씩 읽어 메모리 일정 유지)
+     * - columns: 화이트리스트 검증된 "컬럼 AS 프로퍼티" 목록만 전달할 것
+     */
+    @Select("""
+        <script>
+        SELECT <foreach collection='columns' item='column' separator=', '>${column}</foreach>
+        FROM product
+        ORDER BY pcode
+        </script>
+        """)
+    @Options(resultSetType = ResultSetType.FORWARD_ONLY, fetchSize = 1000)
+    Cursor<Product> streamAll(@Param("columns") List<String> columns);
+}
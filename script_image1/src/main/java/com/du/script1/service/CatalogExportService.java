@@ -0,0 +1,235 @@
+package com.du.script1.service;
+
+import com.du.script1.domain.Product;
+import com.du.script1.mapper.ProductExportMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 카탈로그 내보내기 (CSV / NDJSON)
+ * - MyBatis Cursor로 DB에서 한 행씩 읽어 바로 출력 스트림에 기록 → 상품 수와 무관하게 메모리 일정
+ * - 요청한 컬럼만 SELECT 하므로 가격추이/스펙 CLOB은 필요할 때만 읽음
+ * - 다운로드가 끝날 때까지 커넥션을 점유하므로 동시 내보내기 수 제한 (catalog.export.max-concurrent, 기본 2)
+ *   → 내보내기가 커넥션 풀을 모두 차지해 일반 API가 커넥션을 기다리는 일 방지
+ */
+@Slf4j
+@Service
+public class CatalogExportService {
+
+    private final ProductExportMapper productExportMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Semaphore permits;
+    private final int maxConcurrent;
+
+    public CatalogExportService(ProductExportMapper productExportMapper,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${catalog.export.max-concurrent:2}") int maxConcurrent) {
+        this.productExportMapper = productExportMapper;
+        this.transactionManager = transactionManager;
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(Math.max(0, maxConcurrent));
+    }
+
+    /**
+     * 내보내기 가능한 컬럼 (API 이름 ↔ DB 컬럼)
+     */
+    public enum Column {
+        PCODE("pcode", "pcode", Product::getPcode),
+        PRODUCT_NAME("productName", "product_name", Product::getProductName),
+        URL("url", "url", Product::getUrl),
+        IMAGE("image", "image", Product::getImage),
+        PRICE_MIN("priceMin", "price_min", Product::getPriceMin),
+        PRICE_MAX("priceMax", "price_max", Product::getPriceMax),
+        PRICE_BALANCE("priceBalance", "price_balance", Product::getPriceBalance),
+        DETAIL_JSON("detailJson", "detail_json", Product::getDetailJson);
+
+        final String property;
+        final String column;
+        final Function<Product, Object> getter;
+
+        Column(String property, String column, Function<Product, Object> getter) {
+            this.property = property;
+            this.column = column;
+            this.getter = getter;
+        }
+
+        static Column fromProperty(String property) {
+            for (Column column : values()) {
+                if (column.property.equals(property)) {
+                    return column;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 컬럼입니다: " + property);
+        }
+    }
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        public final String contentType;
+        public final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static Format from(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 형식입니다: " + value + " (csv, ndjson)");
+        }
+    }
+
+    /**
+     * 컬럼 목록 파싱 - 비어 있으면 전체 컬럼
+     */
+    public List<Column> parseColumns(String columns) {
+        if (columns == null || columns.isBlank()) {
+            return List.of(Column.values());
+        }
+
+        List<Column> result = new ArrayList<>();
+        for (String name : columns.split(",")) {
+            Column column = Column.fromProperty(name.trim());
+            if (!result.contains(column)) {
+                result.add(column);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 내보내기 슬롯 확보 (대기하지 않음) - 성공하면 스트리밍이 끝난 뒤 반드시 releasePermit 호출
+     */
+    public boolean tryAcquirePermit() {
+        return permits.tryAcquire();
+    }
+
+    public void releasePermit() {
+        permits.release();
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * 커서를 열고 닫는 동안 트랜잭션(커넥션) 유지
+     */
+    public void export(Format format, List<Column> columns, boolean gzip, OutputStream responseStream) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+
+        transaction.executeWithoutResult(status -> {
+            List<String> select = columns.stream()
+                .map(column -> column.column + " AS " + column.property)
+                .toList();
+
+            long start = System.nanoTime();
+            long rows = 0;
+            try (Cursor<Product> cursor = productExportMapper.streamAll(select)) {
+                // 행 단위 쓰기는 버퍼에 모았다가 압축/전송
+                GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(responseStream, 64 * 1024) : null;
+                OutputStream out = new BufferedOutputStream(gzipStream != null ? gzipStream : responseStream, 64 * 1024);
+
+                rows = format == Format.CSV
+                    ? writeCsv(cursor, columns, out)
+                    : writeNdjson(cursor, columns, out);
+
+                out.flush();
+                if (gzipStream != null) {
+                    gzipStream.finish();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            log.info("카탈로그 내보내기 완료: {} {}행, {}ms", format, rows, (System.nanoTime() - start) / 1_000_000);
+        });
+    }
+
+    private long writeCsv(Cursor<Product> cursor, List<Column> columns, OutputStream out) throws IOException {
+        StringBuilder line = new StringBuilder(256);
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) line.append(',');
+            line.append(columns.get(i).property);
+        }
+        out.write(line.append('\n').toString().getBytes(StandardCharsets.UTF_8));
+
+        long rows = 0;
+        for (Product product : cursor) {
+            line.setLength(0);
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) line.append(',');
+                appendCsvField(line, columns.get(i).getter.apply(product));
+            }
+            out.write(line.append('\n').toString().getBytes(StandardCharsets.UTF_8));
+            rows++;
+        }
+        return rows;
+    }
+
+    private long writeNdjson(Cursor<Product> cursor, List<Column> columns, OutputStream out) throws IOException {
+        long rows = 0;
+        // 출력 스트림은 직접 닫으므로 생성기가 닫지 않도록 설정
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            for (Product product : cursor) {
+                generator.writeStartObject();
+                for (Column column : columns) {
+                    generator.writeObjectField(column.property, column.getter.apply(product));
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * RFC 4180 - 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 "" 로
+     */
+    static void appendCsvField(StringBuilder line, Object value) {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+            || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        if (!quote) {
+            line.append(text);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') line.append('"');
+            line.append(c);
+        }
+        line.append('"');
+    }
+}
@@ -0,0 +1,185 @@
+package com.du.script1.service;
+
+import com.du.script1.domain.Product;
+import com.du.script1.event.CatalogLoadedEvent;
+import com.du.script1.util.FuzzyTermDictionary;
+import com.du.script1.util.Hangul;
+import com.du.script1.util.ProductText;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 오타 허용 검색 서비스
+ * - 상품명 토큰(인접 토큰 붙여쓰기 포함)과 스펙 값으로 자모 용어 사전 구성
+ * - 검색어 키워드마다 편집 거리 1~2 이내 용어를 Levenshtein 오토마톤으로 찾아 상품으로 확장
+ * - 검색 캐시 키는 키워드를 정렬하므로 붙여쓰기 후보는 인접 여부와 무관하게 모든 키워드 쌍을 양방향(a+b, b+a)으로 결합
+ * - 카탈로그 로드 시마다 재구성, 조회 시 DB 접근 없음
+ */
+@Slf4j
+@Service
+public class FuzzySearchService {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[\\s\\p{Punct}·]+");
+    private static final int MIN_TERM_LENGTH = 2;
+
+    // 키워드가 이보다 많으면(긴 자연어 질문) 쌍 결합 수가 급증하므로 인접 쌍만 결합
+    private static final int MAX_ALL_PAIRS_KEYWORDS = 8;
+
+    // 자모 길이 기준 허용 편집 거리 (짧은 단어는 오타 허용 시 엉뚱한 매칭이 많음)
+    private static final int NO_EDIT_MAX_LENGTH = 3;
+    private static final int ONE_EDIT_MAX_LENGTH = 8;
+
+    private volatile Index index = Index.EMPTY;
+
+    @EventListener
+    public void onCatalogLoaded(CatalogLoadedEvent event) {
+        try {
+            long start = System.nanoTime();
+            index = buildIndex(event.getProducts(), event.getSpecs());
+            log.info("오타 허용 검색 사전 구성 완료: {}개 용어, {}ms",
+                index.dictionary().size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.error("오타 허용 검색 사전 구성 실패", e);
+        }
+    }
+
+    /**
+     * 편집 거리 이내 상품 pcode (가까운 순)
+     * - exclude: 이미 정확히 매칭된 상품
+     */
+    public List<Long> searchPcodes(String question, Set<Long> exclude, int limit) {
+        Index current = index;
+
+        // 상품별 최소 편집 거리
+        Map<Integer, Integer> bestDistance = new HashMap<>();
+        for (FuzzyTermDictionary.Match match : expand(current, question)) {
+            for (int id : match.ids()) {
+                bestDistance.merge(id, match.distance(), Math::min);
+            }
+        }
+
+        return bestDistance.entrySet().stream()
+            .sorted(Map.Entry.comparingByValue())
+            .map(entry -> current.pcodes()[entry.getKey()])
+            .filter(pcode -> !exclude.contains(pcode))
+            .limit(limit)
+            .toList();
+    }
+
+    /**
+     * 검색어가 어떤 용어로 확장되는지 확인
+     */
+    public Map<String, Object> explain(String question) {
+        List<Map<String, Object>> terms = new ArrayList<>();
+        for (FuzzyTermDictionary.Match match : expand(index, question)) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("term", match.term());
+            item.put("distance", match.distance());
+            item.put("productCount", match.ids().length);
+            terms.add(item);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("query", question);
+        result.put("terms", terms);
+        return result;
+    }
+
+    private List<FuzzyTermDictionary.Match> expand(Index current, String question) {
+        List<String> keywords = tokenize(ProductText.normalizeName(question));
+
+        // 띄어쓰기 변형 대응: 한 글자로 떨어진 키워드("유모 차")도 붙일 수 있도록 길이 필터 전에 결합
+        // 정렬된 키("용 유모차 휴대")에서도 "휴대용"이 나오도록 모든 쌍을 양방향으로 결합
+        Set<String> queries = new LinkedHashSet<>(keywords);
+        boolean allPairs = keywords.size() <= MAX_ALL_PAIRS_KEYWORDS;
+        for (int i = 0; i < keywords.size(); i++) {
+            for (int j = i + 1; j < keywords.size() && (allPairs || j == i + 1); j++) {
+                queries.add(keywords.get(i) + keywords.get(j));
+                queries.add(keywords.get(j) + keywords.get(i));
+            }
+        }
+
+        // 같은 용어는 가장 가까운 거리만 유지
+        Map<String, FuzzyTermDictionary.Match> matches = new LinkedHashMap<>();
+        for (String query : queries) {
+            if (query.length() < MIN_TERM_LENGTH) continue;
+            int maxEdits = maxEdits(Hangul.toJamo(query).length());
+            if (maxEdits == 0) continue;
+
+            for (FuzzyTermDictionary.Match match : current.dictionary().search(query, maxEdits)) {
+                matches.merge(match.term(), match, (a, b) -> a.distance() <= b.distance() ? a : b);
+            }
+        }
+
+        List<FuzzyTermDictionary.Match> result = new ArrayList<>(matches.values());
+        result.sort((a, b) -> Integer.compare(a.distance(), b.distance()));
+        return result;
+    }
+
+    private static int maxEdits(int jamoLength) {
+        if (jamoLength <= NO_EDIT_MAX_LENGTH) return 0;
+        if (jamoLength <= ONE_EDIT_MAX_LENGTH) return 1;
+        return 2;
+    }
+
+    private Index buildIndex(List<Product> products, List<Map<String, List<String>>> specs) {
+        FuzzyTermDictionary.Builder builder = FuzzyTermDictionary.builder();
+        Long[] pcodes = new Long[products.size()];
+
+        for (int id = 0; id < products.size(); id++) {
+            Product product = products.get(id);
+            pcodes[id] = product.getPcode();
+
+            List<String> nameTokens = tokenize(ProductText.normalizeName(product.getProductName()));
+            for (int i = 0; i < nameTokens.size(); i++) {
+                addTerm(builder, nameTokens.get(i), id);
+                if (i + 1 < nameTokens.size()) {
+                    addTerm(builder, nameTokens.get(i) + nameTokens.get(i + 1), id);
+                }
+            }
+
+            for (List<String> values : specs.get(id).values()) {
+                for (String value : values) {
+                    for (String token : tokenize(ProductText.normalizeName(value))) {
+                        addTerm(builder, token, id);
+                    }
+                }
+            }
+        }
+
+        return new Index(builder.build(), pcodes);
+    }
+
+    private static void addTerm(FuzzyTermDictionary.Builder builder, String term, int id) {
+        if (term.length() >= MIN_TERM_LENGTH) {
+            builder.add(term, id);
+        }
+    }
+
+    /**
+     * 구분자 기준 분리 (길이 필터는 인접 토큰 결합 후 적용)
+     */
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(text)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private record Index(FuzzyTermDictionary dictionary, Long[] pcodes) {
+        static final Index EMPTY = new Index(FuzzyTermDictionary.builder().build(), new Long[0]);
+    }
+}
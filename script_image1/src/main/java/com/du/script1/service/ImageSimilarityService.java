@@ -1,7 +1,5 @@
 package com.du.script1.service;
 
-import com.du.script1.domain.Product;
-import com.du.script1.repository.ProductRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -10,19 +8,26 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStreamReader;
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ImageSimilarityService {
 
-    private final ProductRepository productRepository;
+    private static final byte[] SUCCESS_PREFIX = "{\"success\":true,\"queryProductId\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SIMILAR_IMAGES_PREFIX = ",\"similarImages\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PRODUCT_ID_PREFIX = "{\"productId\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] IMAGE_NAME_PREFIX = ",\"imageName\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] SIMILARITY_PREFIX = ",\"similarity\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TOTAL_RESULTS_PREFIX = "],\"totalResults\":".getBytes(StandardCharsets.UTF_8);
+
+    private final ProductJsonFragments productJsonFragments;
 
     @Value("${python.path:python}")
     private String pythonPath;
@@ -32,7 +37,10 @@ public class ImageSimilarityService {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    public Map<String, Object> searchSimilarImages(String productId, int topN) {
+    /**
+     * 유사 이미지 검색 결과를 JSON 바이트로 반환
+     */
+    public byte[] searchSimilarImages(String productId, int topN) throws IOException {
         Map<String, Object> result = new LinkedHashMap<>();
         
         try {
@@ -79,52 +87,13 @@ public class ImageSimilarityService {
             if (jsonOutput.isEmpty() || !jsonOutput.startsWith("{")) {
                 result.put("success", false);
                 result.put("error", "Python 스크립트 출력 오류");
-                return result;
+                return objectMapper.writeValueAsBytes(result);
             }
             
             JsonNode jsonNode = objectMapper.readTree(jsonOutput);
             
             if (jsonNode.has("success") && jsonNode.get("success").asBoolean()) {
-                result.put("success", true);
-                result.put("queryProductId", productId);
-                
-                List<Map<String, Object>> similarImages = new ArrayList<>();
-                JsonNode imagesNode = jsonNode.get("similar_images");
-                
-                if (imagesNode != null && imagesNode.isArray()) {
-                    for (JsonNode img : imagesNode) {
-                        double similarity = img.get("similarity").asDouble();
-                        // 100% 유사도(자기 자신) 제외
-                        if (similarity >= 0.999) {
-                            continue;
-                        }
-                        
-                        Map<String, Object> imageInfo = new LinkedHashMap<>();
-                        String pId = img.get("product_id").asText();
-                        imageInfo.put("productId", pId);
-                        imageInfo.put("imageName", img.get("image_name").asText());
-                        imageInfo.put("similarity", similarity);
-                        
-                        // DB에서 상품 정보 조회
-                        try {
-                            Long pcode = Long.parseLong(pId.replace(".jpg", ""));
-                            Optional<Product> productOpt = productRepository.findById(pcode);
-                            if (productOpt.isPresent()) {
-                                Product product = productOpt.get();
-                                imageInfo.put("productName", product.getProductName());
-                                imageInfo.put("priceMin", product.getPriceMin());
-                                imageInfo.put("priceMax", product.getPriceMax());
-                            }
-                        } catch (Exception e) {
-                            log.warn("상품 정보 조회 실패: {}", pId);
-                        }
-                        
-                        similarImages.add(imageInfo);
-                    }
-                }
-                
-                result.put("similarImages", similarImages);
-                result.put("totalResults", similarImages.size());
+                return writeSuccess(productId, jsonNode.get("similar_images"));
             } else {
                 result.put("success", false);
                 result.put("error", jsonNode.has("error") ? jsonNode.get("error").asText() : "Unknown error");
@@ -136,6 +105,54 @@ public class ImageSimilarityService {
             result.put("error", e.getMessage());
         }
         
-        return result;
+        return objectMapper.writeValueAsBytes(result);
+    }
+
+    /**
+     * 성공 응답 조립 - 상품 정보는 DB 조회 대신 사전 인코딩된 조각을 이어 붙임
+     */
+    byte[] writeSuccess(String productId, JsonNode imagesNode) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+        out.write(SUCCESS_PREFIX);
+        out.write(objectMapper.writeValueAsBytes(productId));
+        out.write(SIMILAR_IMAGES_PREFIX);
+
+        int count = 0;
+        if (imagesNode != null && imagesNode.isArray()) {
+            for (JsonNode img : imagesNode) {
+                double similarity = img.get("similarity").asDouble();
+                // 100% 유사도(자기 자신) 제외
+                if (similarity >= 0.999) {
+                    continue;
+                }
+
+                String pId = img.get("product_id").asText();
+                if (count > 0) out.write(',');
+                out.write(PRODUCT_ID_PREFIX);
+                out.write(objectMapper.writeValueAsBytes(pId));
+                out.write(IMAGE_NAME_PREFIX);
+                out.write(objectMapper.writeValueAsBytes(img.get("image_name").asText()));
+                out.write(SIMILARITY_PREFIX);
+                out.write(objectMapper.writeValueAsBytes(similarity));
+
+                byte[] members = null;
+                try {
+                    members = productJsonFragments.getMembers(Long.parseLong(pId.replace(".jpg", "")));
+                } catch (NumberFormatException e) {
+                    log.warn("상품 정보 조회 실패: {}", pId);
+                }
+                if (members != null) {
+                    out.write(',');
+                    out.write(members);
+                }
+                out.write('}');
+                count++;
+            }
+        }
+
+        out.write(TOTAL_RESULTS_PREFIX);
+        out.write(Integer.toString(count).getBytes(StandardCharsets.US_ASCII));
+        out.write('}');
+        return out.toByteArray();
     }
 }
@@ -0,0 +1,332 @@
+package com.du.script1.service;
+
+import com.du.script1.domain.Product;
+import com.du.script1.event.CatalogLoadedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 카탈로그 전체 가격 추이 통계
+ * - 카탈로그 로드 시 모든 상품의 priceBalance를 병렬로 한 번만 파싱해 기간별 통계를 원시 배열에 저장
+ * - 통계: 최저/최고가, 변동성(변동계수), 회귀 기울기, 기간 등락률, 역대 최저가 대비 거리
+ * - 기울기(slopePctPerWeek)는 기간 평균가 대비 주당 변화율(%) - 1/3개월은 주 단위, 6/12개월은 월 단위 데이터라 주 단위로 환산
+ * - 랭킹용 정렬 순서도 미리 계산하므로 조회 시 JSON 파싱/전체 정렬 없음
+ */
+@Slf4j
+@Service
+public class PriceAnalyticsService {
+
+    static final String[] WINDOWS = {"1", "3", "6", "12"};
+
+    // 기간별 데이터 한 점의 간격(주)
+    private static final double WEEKS_PER_MONTH = 52.0 / 12;
+    private static final double[] WEEKS_PER_POINT = {1, 1, WEEKS_PER_MONTH, WEEKS_PER_MONTH};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private volatile Stats stats = new Stats(List.of());
+
+    @EventListener
+    public void onCatalogLoaded(CatalogLoadedEvent event) {
+        try {
+            long start = System.nanoTime();
+            stats = compute(event.getProducts());
+            log.info("가격 통계 계산 완료: {}개 상품, {}ms",
+                stats.size, (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.error("가격 통계 계산 실패", e);
+        }
+    }
+
+    /**
+     * 상품 한 개의 기간별 통계
+     */
+    public Map<String, Object> getProductStats(Long pcode) {
+        Stats current = stats;
+        Integer index = current.indexByPcode.get(pcode);
+        if (index == null) {
+            return null;
+        }
+
+        Map<String, Object> result = summary(current, index);
+        Map<String, Object> windows = new LinkedHashMap<>();
+        for (int w = 0; w < WINDOWS.length; w++) {
+            if (!Double.isNaN(current.volatility[w][index])) {
+                windows.put(WINDOWS[w], windowStats(current, w, index));
+            }
+        }
+        result.put("windows", windows);
+        return result;
+    }
+
+    /**
+     * 기간 내 하락률이 큰 순
+     */
+    public List<Map<String, Object>> biggestDrops(String window, int limit) {
+        requirePositive("limit", limit);
+        Stats current = stats;
+        int w = windowIndex(window);
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (int index : current.dropOrder[w]) {
+            if (result.size() >= limit || current.changePct[w][index] >= 0) break;
+            result.add(withWindow(current, w, index));
+        }
+        return result;
+    }
+
+    /**
+     * 가격대 내에서 변동성이 낮은 순
+     */
+    public List<Map<String, Object>> mostStable(String window, Integer minPrice, Integer maxPrice, int limit) {
+        requirePositive("limit", limit);
+        Stats current = stats;
+        int w = windowIndex(window);
+        int low = minPrice != null ? minPrice : Integer.MIN_VALUE;
+        int high = maxPrice != null ? maxPrice : Integer.MAX_VALUE;
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (int index : current.stableOrder[w]) {
+            if (result.size() >= limit) break;
+            int price = current.currentPrice[index];
+            if (price >= low && price <= high) {
+                result.add(withWindow(current, w, index));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 현재가가 역대 최저가에 가까운 순
+     */
+    public List<Map<String, Object>> nearAllTimeLow(int limit) {
+        requirePositive("limit", limit);
+        Stats current = stats;
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (int index : current.nearLowOrder) {
+            if (result.size() >= limit) break;
+            result.add(summary(current, index));
+        }
+        return result;
+    }
+
+    private Stats compute(List<Product> products) {
+        Stats result = new Stats(products);
+        // 상품별로 서로 다른 배열 칸만 쓰므로 병렬 처리 안전
+        IntStream.range(0, result.size).parallel().forEach(i -> fill(result, i, products.get(i)));
+        result.buildOrders();
+        return result;
+    }
+
+    private void fill(Stats s, int i, Product product) {
+        JsonNode priceData = null;
+        if (product.getPriceBalance() != null && !product.getPriceBalance().isEmpty()) {
+            try {
+                priceData = objectMapper.readTree(product.getPriceBalance());
+            } catch (Exception e) {
+                log.warn("가격 추이 파싱 실패: {}", product.getPcode());
+            }
+        }
+
+        for (int w = 0; w < WINDOWS.length; w++) {
+            fillWindow(s, w, i, priceData != null ? priceData.get(WINDOWS[w]) : null);
+        }
+
+        // 역대 최저가는 기간 구분 없이 모든 데이터 기준 (24개월 포함)
+        int allTimeLow = Integer.MAX_VALUE;
+        if (priceData != null) {
+            for (JsonNode points : priceData) {
+                for (JsonNode point : points) {
+                    int price = point.path("price").asInt(0);
+                    if (price > 0) allTimeLow = Math.min(allTimeLow, price);
+                }
+            }
+        }
+
+        int currentPrice = product.getPriceMin() != null ? product.getPriceMin() : 0;
+        s.currentPrice[i] = currentPrice;
+        s.allTimeLow[i] = allTimeLow == Integer.MAX_VALUE ? 0 : allTimeLow;
+        s.distanceFromLowPct[i] = currentPrice > 0 && s.allTimeLow[i] > 0
+            ? (currentPrice - s.allTimeLow[i]) * 100.0 / s.allTimeLow[i]
+            : Double.NaN;
+    }
+
+    /**
+     * 한 기간의 통계 계산 (가격 0 이하는 품절 등으로 보고 제외, 기울기의 x축은 제외된 점도 포함한 원래 위치)
+     */
+    private void fillWindow(Stats s, int w, int i, JsonNode points) {
+        int count = 0;
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        int first = 0;
+        int last = 0;
+        double sum = 0;
+        double sumSq = 0;
+        double sumX = 0;
+        double sumXX = 0;
+        double sumXY = 0;
+
+        if (points != null && points.isArray()) {
+            for (int x = 0; x < points.size(); x++) {
+                int price = points.get(x).path("price").asInt(0);
+                if (price <= 0) continue;
+
+                if (count == 0) first = price;
+                last = price;
+                min = Math.min(min, price);
+                max = Math.max(max, price);
+                sum += price;
+                sumSq += (double) price * price;
+                sumX += x;
+                sumXX += (double) x * x;
+                sumXY += (double) x * price;
+                count++;
+            }
+        }
+
+        if (count == 0) {
+            s.min[w][i] = 0;
+            s.max[w][i] = 0;
+            s.volatility[w][i] = Double.NaN;
+            s.slope[w][i] = Double.NaN;
+            s.changePct[w][i] = Double.NaN;
+            return;
+        }
+
+        double mean = sum / count;
+        double variance = Math.max(0, sumSq / count - mean * mean);
+        double denominator = count * sumXX - sumX * sumX;
+
+        s.min[w][i] = min;
+        s.max[w][i] = max;
+        s.volatility[w][i] = Math.sqrt(variance) / mean;
+        double slopePerPoint = denominator == 0 ? 0 : (count * sumXY - sumX * sum) / denominator;
+        s.slope[w][i] = slopePerPoint * 100.0 / mean / WEEKS_PER_POINT[w];
+        s.changePct[w][i] = (last - first) * 100.0 / first;
+    }
+
+    private static int windowIndex(String window) {
+        for (int w = 0; w < WINDOWS.length; w++) {
+            if (WINDOWS[w].equals(window)) return w;
+        }
+        throw new IllegalArgumentException("지원하지 않는 기간입니다: " + window + " (1, 3, 6, 12 중 선택)");
+    }
+
+    private static void requirePositive(String name, int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + "는 1 이상이어야 합니다: " + value);
+        }
+    }
+
+    private static Map<String, Object> summary(Stats s, int index) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("pcode", s.pcodes[index]);
+        item.put("productName", s.names[index]);
+        item.put("priceMin", s.currentPrice[index]);
+        item.put("allTimeLow", s.allTimeLow[index]);
+        item.put("distanceFromLowPct", round(s.distanceFromLowPct[index]));
+        return item;
+    }
+
+    private static Map<String, Object> withWindow(Stats s, int w, int index) {
+        Map<String, Object> item = summary(s, index);
+        item.put("window", WINDOWS[w]);
+        item.putAll(windowStats(s, w, index));
+        return item;
+    }
+
+    private static Map<String, Object> windowStats(Stats s, int w, int index) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("min", s.min[w][index]);
+        stats.put("max", s.max[w][index]);
+        stats.put("volatility", round(s.volatility[w][index]));
+        stats.put("slopePctPerWeek", round(s.slope[w][index]));
+        stats.put("changePct", round(s.changePct[w][index]));
+        return stats;
+    }
+
+    private static Double round(double value) {
+        return Double.isNaN(value) ? null : Math.round(value * 10000.0) / 10000.0;
+    }
+
+    /**
+     * 기간(w) x 상품(i) 원시 배열 묶음 - 계산 후에는 읽기 전용
+     */
+    private static final class Stats {
+        final int size;
+        final long[] pcodes;
+        final String[] names;
+        final Map<Long, Integer> indexByPcode;
+
+        final int[] currentPrice;
+        final int[] allTimeLow;
+        final double[] distanceFromLowPct;
+
+        final int[][] min;
+        final int[][] max;
+        final double[][] volatility;
+        final double[][] slope;     // 평균가 대비 주당 변화율(%)
+        final double[][] changePct;
+
+        int[][] dropOrder;
+        int[][] stableOrder;
+        int[] nearLowOrder;
+
+        Stats(List<Product> products) {
+            size = products.size();
+            pcodes = new long[size];
+            names = new String[size];
+            indexByPcode = new HashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                pcodes[i] = products.get(i).getPcode();
+                names[i] = products.get(i).getProductName();
+                indexByPcode.put(pcodes[i], i);
+            }
+
+            currentPrice = new int[size];
+            allTimeLow = new int[size];
+            distanceFromLowPct = new double[size];
+
+            min = new int[WINDOWS.length][size];
+            max = new int[WINDOWS.length][size];
+            volatility = new double[WINDOWS.length][size];
+            slope = new double[WINDOWS.length][size];
+            changePct = new double[WINDOWS.length][size];
+
+            dropOrder = new int[WINDOWS.length][0];
+            stableOrder = new int[WINDOWS.length][0];
+            nearLowOrder = new int[0];
+        }
+
+        void buildOrders() {
+            for (int w = 0; w < WINDOWS.length; w++) {
+                dropOrder[w] = sortedBy(changePct[w]);
+                stableOrder[w] = sortedBy(volatility[w]);
+            }
+            nearLowOrder = sortedBy(distanceFromLowPct);
+        }
+
+        /**
+         * 값 오름차순 인덱스 (NaN 제외)
+         */
+        private int[] sortedBy(double[] values) {
+            return IntStream.range(0, size)
+                .filter(i -> !Double.isNaN(values[i]))
+                .boxed()
+                .sorted((a, b) -> Double.compare(values[a], values[b]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        }
+    }
+}
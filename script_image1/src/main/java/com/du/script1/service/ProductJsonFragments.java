@@ -0,0 +1,92 @@
+package com.du.script1.service;
+
+import com.du.script1.domain.Product;
+import com.du.script1.event.CatalogLoadedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 요약 JSON 조각 (UTF-8 바이트) 사전 인코딩
+ * - 카탈로그 로드 시 pcode, productName, priceMin, priceMax, url, image 를 한 번만 직렬화
+ * - 조각은 중괄호 없는 멤버 목록 ("pcode":1,"productName":...) 형태라 다른 필드와 이어 붙일 수 있음
+ * - 응답 작성 시 Map 생성/리플렉션 없이 바이트를 그대로 출력
+ */
+@Slf4j
+@Service
+public class ProductJsonFragments {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private volatile Map<Long, byte[]> fragments = Map.of();
+
+    @EventListener
+    public void onCatalogLoaded(CatalogLoadedEvent event) {
+        try {
+            long start = System.nanoTime();
+            Map<Long, byte[]> encoded = new HashMap<>(event.getProducts().size() * 2);
+            for (Product product : event.getProducts()) {
+                encoded.put(product.getPcode(), encodeMembers(product));
+            }
+            fragments = encoded;
+            log.info("상품 JSON 조각 인코딩 완료: {}개, {}ms",
+                encoded.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.error("상품 JSON 조각 인코딩 실패", e);
+        }
+    }
+
+    /**
+     * 중괄호 없는 멤버 조각 (없으면 null)
+     */
+    public byte[] getMembers(Long pcode) {
+        return fragments.get(pcode);
+    }
+
+    /**
+     * 상품 요약 객체 {...} 출력 - 조각이 없는 상품은 즉석 인코딩
+     */
+    public void writeProduct(OutputStream out, Product product) throws IOException {
+        byte[] members = fragments.get(product.getPcode());
+        if (members == null) {
+            members = encodeMembers(product);
+        }
+        out.write('{');
+        out.write(members);
+        out.write('}');
+    }
+
+    /**
+     * 상품 요약 배열 [...] 출력
+     */
+    public void writeProducts(OutputStream out, List<Product> products) throws IOException {
+        out.write('[');
+        for (int i = 0; i < products.size(); i++) {
+            if (i > 0) out.write(',');
+            writeProduct(out, products.get(i));
+        }
+        out.write(']');
+    }
+
+    private byte[] encodeMembers(Product product) throws IOException {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("pcode", product.getPcode());
+        item.put("productName", product.getProductName());
+        item.put("priceMin", product.getPriceMin());
+        item.put("priceMax", product.getPriceMax());
+        item.put("url", product.getUrl());
+        item.put("image", product.getImage());
+
+        byte[] json = objectMapper.writeValueAsBytes(item);
+        return Arrays.copyOfRange(json, 1, json.length - 1);
+    }
+}
@@ -23,6 +23,7 @@ public class RagService {
 
     private final WebClient ollamaWebClient;
     private final ProductRepository productRepository;
+    private final FuzzySearchService fuzzySearchService;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Value("${ollama.model:llama2}")
@@ -310,49 +311,41 @@ public class RagService {
     }
 
     /**
-     * 검색 결과를 JSON 구조화
+     * 키워드 포함 검색 + 결과가 10개 미만이면 오타 허용 검색으로 보충
      */
-    public Map<String, Object> searchAndStructure(String question) {
-        List<Product> products = searchRelevantProducts(question);
-
-        Map<String, Object> result = new LinkedHashMap<>();
-        result.put("query", question);
-        result.put("totalFound", products.size());
-
-        List<Map<String, Object>> productList = products.stream()
-            .limit(10)
-            .map(p -> {
-                Map<String, Object> item = new LinkedHashMap<>();
-                item.put("pcode", p.getPcode());
-                item.put("productName", p.getProductName());
-                item.put("priceMin", p.getPriceMin());
-                item.put("priceMax", p.getPriceMax());
-                item.put("url", p.getUrl());
-                item.put("image", p.getImage());
-                return item;
-            })
-            .collect(Collectors.toList());
-
-        result.put("products", productList);
-
-        return result;
-    }
-
-    private List<Product> searchRelevantProducts(String question) {
-        String[] keywords = question.split("\\s+");
-
-        return productRepository.findAll().stream()
+    public List<Product> searchRelevantProducts(String question) {
+        // 검색 캐시 키와 같은 규칙(Locale.ROOT)으로 소문자화 - 기본 로케일에 따라 결과가 달라지지 않도록
+        String[] keywords = question.toLowerCase(Locale.ROOT).split("\\s+");
+        List<Product> products = productRepository.findAll().stream()
             .filter(product -> {
-                String searchText = product.getSearchableText().toLowerCase();
+                String searchText = product.getSearchableText().toLowerCase(Locale.ROOT);
                 for (String keyword : keywords) {
-                    if (searchText.contains(keyword.toLowerCase())) {
+                    if (searchText.contains(keyword)) {
                         return true;
                     }
                 }
                 return false;
             })
             .limit(10)
-            .collect(Collectors.toList());
+            .collect(Collectors.toCollection(ArrayList::new));
+
+        if (products.size() < 10) {
+            Set<Long> found = products.stream().map(Product::getPcode).collect(Collectors.toSet());
+            List<Long> pcodes = fuzzySearchService.searchPcodes(question, found, 10 - products.size());
+
+            // 보충할 몇 개만 조회한 뒤 오타 검색 순서(가까운 순)대로 추가
+            if (!pcodes.isEmpty()) {
+                Map<Long, Product> byPcode = productRepository.findAllById(pcodes).stream()
+                    .collect(Collectors.toMap(Product::getPcode, p -> p));
+                for (Long pcode : pcodes) {
+                    Product product = byPcode.get(pcode);
+                    if (product != null) {
+                        products.add(product);
+                    }
+                }
+            }
+        }
+        return products;
     }
 
     public List<Product> searchProducts(String keyword) {
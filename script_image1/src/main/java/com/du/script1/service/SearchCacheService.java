@@ -0,0 +1,147 @@
+package com.du.script1.service;
+
+import com.du.script1.domain.Product;
+import com.du.script1.event.CatalogIndexedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 결과 캐시
+ * - 키: 소문자 + 중복 제거 + 정렬된 키워드 (검색은 키워드 OR 매칭이라 순서 무관)
+ * - 값: 직렬화된 응답 본문 (query 필드 제외) → 요청 query만 앞에 붙여 응답
+ * - Caffeine(W-TinyLFU) 사용: 인기 검색어 위주로 남기고 일회성 검색어는 입장 제한
+ * - 카탈로그 버전이 바뀌면 전체 무효화 (파생 인덱스 재구성이 끝난 CatalogIndexedEvent 시점)
+ */
+@Slf4j
+@Service
+public class SearchCacheService {
+
+    private static final byte[] QUERY_PREFIX = "{\"query\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TOTAL_FOUND_PREFIX = "\"totalFound\":".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PRODUCTS_PREFIX = ",\"products\":".getBytes(StandardCharsets.UTF_8);
+
+    private final RagService ragService;
+    private final ProductJsonFragments productJsonFragments;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Cache<String, CachedResult> cache;
+    private final long maxBytes;
+    private final int maxEntryBytes;
+
+    private volatile long catalogVersion;
+
+    public SearchCacheService(RagService ragService,
+                              ProductJsonFragments productJsonFragments,
+                              @Value("${search.cache.max-bytes:33554432}") long maxBytes,
+                              @Value("${search.cache.max-entry-bytes:262144}") int maxEntryBytes) {
+        this.ragService = ragService;
+        this.productJsonFragments = productJsonFragments;
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((String key, CachedResult value) -> key.length() * 2 + value.body.length)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 인덱스 재구성 중 들어온 검색이 이전 인덱스 기준 결과를 캐시에 남기지 않도록 재구성 완료 후 무효화
+     */
+    @EventListener
+    public void onCatalogIndexed(CatalogIndexedEvent event) {
+        catalogVersion = event.getVersion();
+        cache.invalidateAll();
+        log.info("검색 캐시 초기화: 카탈로그 버전 {}", event.getVersion());
+    }
+
+    /**
+     * 검색 후 JSON 응답 본문을 출력 스트림에 기록
+     */
+    public void search(String query, OutputStream out) throws IOException {
+        String key = normalizeKey(query);
+        long version = catalogVersion;
+
+        CachedResult cached = cache.getIfPresent(key);
+        if (cached == null || cached.version != version) {
+            cached = new CachedResult(version, serializeWithoutQuery(key));
+            if (cached.body.length <= maxEntryBytes && version == catalogVersion) {
+                cache.put(key, cached);
+            }
+        }
+
+        out.write(QUERY_PREFIX);
+        out.write(objectMapper.writeValueAsBytes(query));
+        out.write(',');
+        out.write(cached.body);
+    }
+
+    /**
+     * 캐시 통계 (적중률, 메모리 사용량)
+     */
+    public Map<String, Object> getStats() {
+        CacheStats stats = cache.stats();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("catalogVersion", catalogVersion);
+        result.put("entries", cache.estimatedSize());
+        result.put("weightedBytes", cache.policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(0L))
+            .orElse(0L));
+        result.put("maxBytes", maxBytes);
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        return result;
+    }
+
+    static String normalizeKey(String query) {
+        return Arrays.stream(query.trim().toLowerCase(Locale.ROOT).split("\\s+"))
+            .filter(keyword -> !keyword.isEmpty())
+            .distinct()
+            .sorted()
+            .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * query 필드를 뺀 나머지를 "...}" 형태로 직렬화 (상품은 사전 인코딩된 조각 사용)
+     */
+    private byte[] serializeWithoutQuery(String key) throws IOException {
+        List<Product> products = ragService.searchRelevantProducts(key);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256 + products.size() * 512);
+        out.write(TOTAL_FOUND_PREFIX);
+        out.write(Integer.toString(products.size()).getBytes(StandardCharsets.US_ASCII));
+        out.write(PRODUCTS_PREFIX);
+        productJsonFragments.writeProducts(out, products);
+        out.write('}');
+        return out.toByteArray();
+    }
+
+    private static final class CachedResult {
+        final long version;
+        final byte[] body;
+
+        CachedResult(long version, byte[] body) {
+            this.version = version;
+            this.body = body;
+        }
+    }
+}
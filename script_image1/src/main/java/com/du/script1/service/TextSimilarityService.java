@@ -0,0 +1,215 @@
+package com.du.script1.service;
+
+import com.du.script1.domain.Product;
+import com.du.script1.event.CatalogLoadedEvent;
+import com.du.script1.util.MinHashLsh;
+import com.du.script1.util.ProductText;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상품명/스펙 텍스트 기반 유사 상품 및 중복 상품 탐지
+ * - 상품명 문자 3-gram + 스펙 key=value 를 슁글로 사용
+ * - 카탈로그 로드 시 MinHash 서명 계산, LSH 밴딩으로 후보만 비교 (외부 벡터 DB 불필요)
+ */
+@Slf4j
+@Service
+public class TextSimilarityService {
+
+    private static final int NAME_SHINGLE_SIZE = 3;
+    private static final long SEED = 0x5eed_1234L;
+
+    @Value("${text-similarity.num-hashes:128}")
+    private int numHashes;
+
+    // 128 해시 / 32 밴드 = 밴드당 4행 → 유사도 약 0.42 이상부터 후보로 잡힘
+    @Value("${text-similarity.bands:32}")
+    private int bands;
+
+    @Value("${text-similarity.duplicate-threshold:0.8}")
+    private double duplicateThreshold;
+
+    private volatile Index index = new Index(MinHashLsh.builder(1, 1, SEED).build(), List.of(), Map.of());
+
+    @EventListener
+    public void onCatalogLoaded(CatalogLoadedEvent event) {
+        try {
+            long start = System.nanoTime();
+            index = buildIndex(event.getProducts(), event.getSpecs());
+            log.info("텍스트 유사도 인덱스 구성 완료: {}개 상품, {}ms",
+                index.products().size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.error("텍스트 유사도 인덱스 구성 실패", e);
+        }
+    }
+
+    /**
+     * 스펙/상품명이 비슷한 상품 (유사도 내림차순)
+     */
+    public Map<String, Object> findSimilar(Long pcode, int top) {
+        requirePositive("top", top);
+        Index current = index;
+        Integer id = current.idByPcode().get(pcode);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("queryProductId", pcode);
+        if (id == null) {
+            result.put("success", false);
+            result.put("error", "상품을 찾을 수 없습니다: " + pcode);
+            return result;
+        }
+
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (Match match : rankCandidates(current, id, 0.0, top)) {
+            items.add(toItem(current, match));
+        }
+
+        result.put("success", true);
+        result.put("similarProducts", items);
+        result.put("totalResults", items.size());
+        return result;
+    }
+
+    /**
+     * 중복 의심 상품 - pcode가 있으면 해당 상품 기준, 없으면 카탈로그 전체 쌍
+     */
+    public Map<String, Object> findDuplicates(Long pcode, Double threshold, int limit) {
+        requirePositive("limit", limit);
+        if (threshold != null && (threshold < 0.0 || threshold > 1.0)) {
+            throw new IllegalArgumentException("threshold는 0 ~ 1 사이여야 합니다: " + threshold);
+        }
+        Index current = index;
+        double minSimilarity = threshold != null ? threshold : duplicateThreshold;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("threshold", minSimilarity);
+
+        if (pcode != null) {
+            Integer id = current.idByPcode().get(pcode);
+            List<Map<String, Object>> items = new ArrayList<>();
+            if (id != null) {
+                for (Match match : rankCandidates(current, id, minSimilarity, limit)) {
+                    items.add(toItem(current, match));
+                }
+            }
+            result.put("queryProductId", pcode);
+            result.put("duplicates", items);
+            return result;
+        }
+
+        // 각 쌍은 작은 ID 쪽에서 한 번만 기록, 유사도 높은 쌍부터 limit 개
+        List<Pair> candidates = new ArrayList<>();
+        MinHashLsh lsh = current.lsh();
+        for (int a = 0; a < lsh.size(); a++) {
+            for (int b : lsh.candidates(a)) {
+                if (b <= a) continue;
+                double similarity = lsh.similarity(a, b);
+                if (similarity >= minSimilarity) {
+                    candidates.add(new Pair(a, b, similarity));
+                }
+            }
+        }
+        candidates.sort(Comparator.comparingDouble(Pair::similarity).reversed());
+
+        List<Map<String, Object>> pairs = new ArrayList<>();
+        for (Pair candidate : candidates.subList(0, Math.min(limit, candidates.size()))) {
+            Map<String, Object> pair = new LinkedHashMap<>();
+            pair.put("similarity", candidate.similarity());
+            pair.put("productA", toItem(current, new Match(candidate.a(), candidate.similarity())));
+            pair.put("productB", toItem(current, new Match(candidate.b(), candidate.similarity())));
+            pairs.add(pair);
+        }
+        result.put("totalPairs", candidates.size());
+        result.put("pairs", pairs);
+        return result;
+    }
+
+    private static void requirePositive(String name, int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + "는 1 이상이어야 합니다: " + value);
+        }
+    }
+
+    private List<Match> rankCandidates(Index current, int id, double minSimilarity, int top) {
+        List<Match> matches = new ArrayList<>();
+        for (int candidate : current.lsh().candidates(id)) {
+            double similarity = current.lsh().similarity(id, candidate);
+            if (similarity >= minSimilarity) {
+                matches.add(new Match(candidate, similarity));
+            }
+        }
+        matches.sort(Comparator.comparingDouble(Match::similarity).reversed());
+        return matches.size() > top ? matches.subList(0, top) : matches;
+    }
+
+    private Map<String, Object> toItem(Index current, Match match) {
+        Product product = current.products().get(match.id());
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("pcode", product.getPcode());
+        item.put("productName", product.getProductName());
+        item.put("priceMin", product.getPriceMin());
+        item.put("priceMax", product.getPriceMax());
+        item.put("similarity", match.similarity());
+        return item;
+    }
+
+    private Index buildIndex(List<Product> products, List<Map<String, List<String>>> specs) {
+        MinHashLsh.Builder builder = MinHashLsh.builder(numHashes, bands, SEED);
+        Map<Long, Integer> idByPcode = new HashMap<>(products.size() * 2);
+
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            Set<String> shingles = shingles(product, specs.get(i));
+            // 슁글이 없으면 모든 빈 상품이 한 버킷에 몰리므로 고유 슁글 부여
+            if (shingles.isEmpty()) {
+                shingles.add("#" + product.getPcode());
+            }
+            idByPcode.put(product.getPcode(), builder.add(shingles));
+        }
+
+        return new Index(builder.build(), List.copyOf(products), idByPcode);
+    }
+
+    /**
+     * 상품명 문자 n-gram + 스펙 key=value
+     */
+    private static Set<String> shingles(Product product, Map<String, List<String>> specs) {
+        Set<String> shingles = new HashSet<>();
+
+        String name = ProductText.normalizeName(product.getProductName()).replace(" ", "");
+        for (int i = 0; i + NAME_SHINGLE_SIZE <= name.length(); i++) {
+            shingles.add("n:" + name.substring(i, i + NAME_SHINGLE_SIZE));
+        }
+        if (!name.isEmpty() && name.length() < NAME_SHINGLE_SIZE) {
+            shingles.add("n:" + name);
+        }
+
+        specs.forEach((key, values) -> {
+            for (String value : values) {
+                shingles.add("s:" + key + "=" + value.toLowerCase());
+            }
+        });
+
+        return shingles;
+    }
+
+    private record Match(int id, double similarity) {
+    }
+
+    private record Pair(int a, int b, double similarity) {
+    }
+
+    private record Index(MinHashLsh lsh, List<Product> products, Map<Long, Integer> idByPcode) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.du.script1.service;
+
+import com.du.script1.domain.Product;
+import com.du.script1.event.CatalogLoadedEvent;
+import com.du.script1.util.PrefixTrie;
+import com.du.script1.util.ProductText;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색어 자동완성 서비스
+ * - 상품명(다나와 접미사 제거)과 브랜드를 압축 트라이에 적재
+ * - 카탈로그 로드 시마다 재구성, 조회 시 DB 접근 없음
+ */
+@Slf4j
+@Service
+public class TypeaheadService {
+
+    @Value("${typeahead.top-n:10}")
+    private int topN;
+
+    private volatile Index index = Index.EMPTY;
+
+    @EventListener
+    public void onCatalogLoaded(CatalogLoadedEvent event) {
+        try {
+            long start = System.nanoTime();
+            index = buildIndex(event.getProducts(), event.getSpecs());
+            log.info("자동완성 인덱스 구성 완료: {}개 항목, {}ms",
+                index.suggestions().size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.error("자동완성 인덱스 구성 실패", e);
+        }
+    }
+
+    /**
+     * 접두어 자동완성
+     * - 트라이 노드마다 상위 typeahead.top-n 개만 보관하므로 limit 은 1 ~ top-n 으로 보정
+     */
+    public Map<String, Object> suggest(String prefix, int limit) {
+        Index current = index;
+        String key = ProductText.normalizeName(prefix);
+        int effectiveLimit = Math.max(1, Math.min(limit, topN));
+
+        List<Map<String, Object>> items = new ArrayList<>();
+        if (!key.isEmpty()) {
+            int[] ids = current.trie().topMatches(key);
+            for (int i = 0; i < ids.length && items.size() < effectiveLimit; i++) {
+                items.add(current.suggestions().get(ids[i]).toMap());
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("prefix", prefix);
+        result.put("limit", effectiveLimit);
+        if (effectiveLimit != limit) {
+            result.put("requestedLimit", limit);
+            result.put("maxLimit", topN);
+        }
+        result.put("suggestions", items);
+        return result;
+    }
+
+    private Index buildIndex(List<Product> products, List<Map<String, List<String>>> specs) {
+        // 브랜드별 상품 수 = 인기도 가중치
+        Map<Long, String> brandByPcode = new HashMap<>();
+        Map<String, Integer> brandCounts = new HashMap<>();
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            String brand = extractBrand(specs.get(i));
+            if (brand != null) {
+                brandByPcode.put(product.getPcode(), brand);
+                brandCounts.merge(brand, 1, Integer::sum);
+            }
+        }
+
+        List<Suggestion> suggestions = new ArrayList<>();
+        PrefixTrie.Builder builder = PrefixTrie.builder(topN);
+
+        for (Map.Entry<String, Integer> entry : brandCounts.entrySet()) {
+            int id = suggestions.size();
+            suggestions.add(new Suggestion("brand", entry.getKey(), null, entry.getValue()));
+            // 브랜드는 같은 브랜드 상품보다 먼저 노출
+            builder.add(ProductText.normalizeName(entry.getKey()), id, entry.getValue() * 2L + 1);
+        }
+
+        for (Product product : products) {
+            String name = product.getProductName();
+            if (name == null || name.isBlank()) continue;
+
+            String brand = brandByPcode.get(product.getPcode());
+            int weight = brand != null ? brandCounts.get(brand) : 0;
+
+            int id = suggestions.size();
+            suggestions.add(new Suggestion("product", name.replace(ProductText.NAME_SUFFIX, "").trim(), product.getPcode(), weight));
+            builder.add(ProductText.normalizeName(name), id, weight * 2L);
+        }
+
+        return new Index(builder.build(), suggestions);
+    }
+
+    private static String extractBrand(Map<String, List<String>> specs) {
+        List<String> brand = specs.get("제조회사");
+        return brand != null && !brand.isEmpty() && !brand.get(0).isBlank() ? brand.get(0) : null;
+    }
+
+    private record Suggestion(String type, String text, Long pcode, int weight) {
+
+        Map<String, Object> toMap() {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("type", type);
+            item.put("text", text);
+            if (pcode != null) {
+                item.put("pcode", pcode);
+            } else {
+                item.put("productCount", weight);
+            }
+            return item;
+        }
+    }
+
+    private record Index(PrefixTrie trie, List<Suggestion> suggestions) {
+        static final Index EMPTY = new Index(PrefixTrie.builder(0).build(), List.of());
+    }
+}
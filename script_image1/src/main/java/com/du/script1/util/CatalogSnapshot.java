@@ -0,0 +1,225 @@
+package com.du.script1.util;
+
+import com.du.script1.domain.Product;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 카탈로그 바이너리 스냅샷
+ * - CSV 로드 성공 후 파싱된 상품 목록을 바이너리 파일로 저장
+ * - 다음 기동 시 CSV 해시와 파서 버전이 같으면 파일을 메모리 매핑해 CSV 파싱을 건너뜀
+ * - 헤더는 일반 읽기로 먼저 검증하고 일치할 때만 매핑 (매핑은 GC 전까지 해제되지 않아
+ *   Windows 에서는 매핑된 파일을 교체할 수 없음)
+ *
+ * 파일 구조: [매직 4B][포맷 버전 4B][파서 버전 4B][CSV SHA-256 32B][상품 수 4B][상품 레코드...][CRC32 8B]
+ */
+@Slf4j
+@Component
+public class CatalogSnapshot {
+
+    private static final int MAGIC = 0x43534E50; // "CSNP"
+    private static final int FORMAT_VERSION = 2;
+    private static final int HASH_LENGTH = 32;
+    private static final int HEADER_LENGTH = 4 + 4 + 4 + HASH_LENGTH + 4;
+
+    @Value("${catalog.snapshot.enabled:true}")
+    private boolean enabled;
+
+    @Value("${catalog.snapshot.path:${java.io.tmpdir}/script1-catalog.snapshot}")
+    private String path;
+
+    /**
+     * CSV 내용의 SHA-256
+     */
+    public static byte[] hash(byte[] csvBytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(csvBytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 스냅샷 읽기 - 파일이 없거나 CSV 해시/포맷/파서 버전/체크섬이 다르면 empty
+     */
+    public Optional<List<Product>> read(byte[] csvHash, int parserVersion) {
+        Path file = Path.of(path);
+        if (!enabled || !Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_LENGTH + 8 || size > Integer.MAX_VALUE) {
+                log.warn("카탈로그 스냅샷 크기 오류: {}", path);
+                return Optional.empty();
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    return Optional.empty();
+                }
+            }
+            header.flip();
+
+            if (header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+                log.info("카탈로그 스냅샷 포맷 불일치, 무시: {}", path);
+                return Optional.empty();
+            }
+            if (header.getInt() != parserVersion) {
+                log.info("CSV 파서 변경 감지, 카탈로그 스냅샷 무시");
+                return Optional.empty();
+            }
+
+            byte[] storedHash = new byte[HASH_LENGTH];
+            header.get(storedHash);
+            if (!Arrays.equals(storedHash, csvHash)) {
+                log.info("CSV 변경 감지, 카탈로그 스냅샷 무시");
+                return Optional.empty();
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.position(HEADER_LENGTH - 4);
+
+            int bodyEnd = (int) size - 8;
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate().position(0).limit(bodyEnd));
+            if (crc.getValue() != buffer.getLong(bodyEnd)) {
+                log.warn("카탈로그 스냅샷 체크섬 불일치, 무시: {}", path);
+                return Optional.empty();
+            }
+
+            int count = buffer.getInt();
+            List<Product> products = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                products.add(Product.builder()
+                    .pcode(buffer.getLong())
+                    .productName(readString(buffer))
+                    .url(readString(buffer))
+                    .image(readString(buffer))
+                    .priceMin(readInteger(buffer))
+                    .priceMax(readInteger(buffer))
+                    .priceBalance(readString(buffer))
+                    .detailJson(readString(buffer))
+                    .build());
+            }
+            return Optional.of(products);
+
+        } catch (Exception e) {
+            log.warn("카탈로그 스냅샷 읽기 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 스냅샷 저장 - 임시 파일에 쓴 뒤 교체하므로 중간 실패 시 기존 파일 유지
+     * - 교체 전에 실패하면 임시 파일 삭제
+     */
+    public void write(byte[] csvHash, int parserVersion, List<Product> products) {
+        if (!enabled) {
+            return;
+        }
+
+        Path temp = null;
+        try {
+            Path target = Path.of(path).toAbsolutePath();
+            Path parent = target.getParent();
+            Files.createDirectories(parent);
+            temp = Files.createTempFile(parent, "catalog", ".tmp");
+
+            CRC32 crc = new CRC32();
+            try (OutputStream file = Files.newOutputStream(temp);
+                 DataOutputStream out = new DataOutputStream(
+                     new CheckedOutputStream(new BufferedOutputStream(file, 64 * 1024), crc))) {
+
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(parserVersion);
+                out.write(csvHash);
+                out.writeInt(products.size());
+                for (Product product : products) {
+                    out.writeLong(product.getPcode());
+                    writeString(out, product.getProductName());
+                    writeString(out, product.getUrl());
+                    writeString(out, product.getImage());
+                    writeInteger(out, product.getPriceMin());
+                    writeInteger(out, product.getPriceMax());
+                    writeString(out, product.getPriceBalance());
+                    writeString(out, product.getDetailJson());
+                }
+                out.flush();
+                // 체크섬 자체는 체크섬 대상에서 제외
+                new DataOutputStream(file).writeLong(crc.getValue());
+            }
+
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+            log.info("카탈로그 스냅샷 저장: {} ({}개 상품)", path, products.size());
+
+        } catch (Exception e) {
+            log.warn("카탈로그 스냅샷 저장 실패: {}", e.getMessage());
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    log.warn("카탈로그 스냅샷 임시 파일 삭제 실패: {}", temp);
+                }
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeInteger(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        out.writeInt(value != null ? value : 0);
+    }
+
+    private static Integer readInteger(ByteBuffer buffer) {
+        boolean present = buffer.get() != 0;
+        int value = buffer.getInt();
+        return present ? value : null;
+    }
+}
@@ -1,25 +1,40 @@
 package com.du.script1.util;
 
 import com.du.script1.domain.Product;
+import com.du.script1.event.CatalogIndexedEvent;
+import com.du.script1.event.CatalogLoadedEvent;
 import com.du.script1.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CsvDataLoader implements CommandLineRunner {
 
+    // parseCsvLine 파싱 규칙(트리밍, 가격 파싱 등)을 바꾸면 올려서 기존 스냅샷 무효화
+    static final int PARSER_VERSION = 1;
+
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogSnapshot catalogSnapshot;
+    private final AtomicLong catalogVersion = new AtomicLong();
 
     @Override
     public void run(String... args) throws Exception {
@@ -27,11 +42,38 @@ public class CsvDataLoader implements CommandLineRunner {
         
         try {
             ClassPathResource resource = new ClassPathResource(csvFile);
-            BufferedReader reader = new BufferedReader(
-                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)
-            );
+            byte[] csvBytes;
+            try (InputStream in = resource.getInputStream()) {
+                csvBytes = in.readAllBytes();
+            }
+            byte[] csvHash = CatalogSnapshot.hash(csvBytes);
+
+            // CSV가 바뀌지 않았으면 스냅샷 사용
+            Optional<List<Product>> snapshot = catalogSnapshot.read(csvHash, PARSER_VERSION);
+            List<Product> products = snapshot.orElseGet(() -> parseCsv(csvBytes));
+
+            productRepository.saveAll(products);
+            log.info("CSV 데이터 로드 완료: {}개 상품 (스냅샷 사용: {})", products.size(), snapshot.isPresent());
+
+            if (snapshot.isEmpty()) {
+                catalogSnapshot.write(csvHash, PARSER_VERSION, products);
+            }
+
+            // 파생 인덱스 재구성 알림 (리스너는 동기 실행) → 모두 끝난 뒤 캐시 무효화 알림
+            long version = catalogVersion.incrementAndGet();
+            eventPublisher.publishEvent(new CatalogLoadedEvent(version, products));
+            eventPublisher.publishEvent(new CatalogIndexedEvent(version));
+
+        } catch (Exception e) {
+            log.error("CSV 파일 로드 실패: {}", e.getMessage());
+        }
+    }
 
-            List<Product> products = new ArrayList<>();
+    private List<Product> parseCsv(byte[] csvBytes) {
+        List<Product> products = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(csvBytes), StandardCharsets.UTF_8))) {
             String line;
             boolean isFirst = true;
 
@@ -51,14 +93,11 @@ public class CsvDataLoader implements CommandLineRunner {
                     log.warn("CSV 파싱 실패: {}", e.getMessage());
                 }
             }
-
-            reader.close();
-            productRepository.saveAll(products);
-            log.info("CSV 데이터 로드 완료: {}개 상품", products.size());
-
-        } catch (Exception e) {
-            log.error("CSV 파일 로드 실패: {}", e.getMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+
+        return products;
     }
 
     private Product parseCsvLine(String line) {
@@ -0,0 +1,142 @@
+package com.du.script1.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 오타 허용 검색용 정렬 용어 사전
+ * - 용어를 자모로 분해해 정렬 배열에 저장, 용어마다 포함 항목 ID 목록(postings) 보관
+ * - 검색 시 Levenshtein 오토마톤으로 사전을 순서대로 훑되,
+ *   공통 접두어의 상태는 재사용하고 매칭 불가능해진 접두어 구간은 이진 탐색으로 통째로 건너뜀
+ *   → 모든 용어와 편집 거리를 계산하지 않음
+ */
+public class FuzzyTermDictionary {
+
+    private final String[] jamoTerms;
+    private final String[] terms;
+    private final int[][] postings;
+    private final int maxLength;
+
+    private FuzzyTermDictionary(String[] jamoTerms, String[] terms, int[][] postings) {
+        this.jamoTerms = jamoTerms;
+        this.terms = terms;
+        this.postings = postings;
+        this.maxLength = Arrays.stream(jamoTerms).mapToInt(String::length).max().orElse(0);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return terms.length;
+    }
+
+    /**
+     * 편집 거리 maxEdits 이내 용어 (거리 오름차순)
+     */
+    public List<Match> search(String query, int maxEdits) {
+        String pattern = Hangul.toJamo(query);
+        LevenshteinAutomaton automaton = new LevenshteinAutomaton(pattern, maxEdits);
+
+        List<Match> matches = new ArrayList<>();
+        LevenshteinAutomaton.State[] stack = new LevenshteinAutomaton.State[maxLength + 1];
+        stack[0] = automaton.start();
+        String previous = "";
+        int validDepth = 0;
+
+        int i = 0;
+        while (i < jamoTerms.length) {
+            String term = jamoTerms[i];
+            int depth = Math.min(validDepth, commonPrefix(previous, term));
+            boolean dead = false;
+
+            while (depth < term.length()) {
+                LevenshteinAutomaton.State next = automaton.step(stack[depth], term.charAt(depth));
+                if (!automaton.canMatch(next)) {
+                    // 이 접두어로 시작하는 용어는 모두 매칭 불가 → 구간 건너뜀
+                    i = skipPrefix(term.substring(0, depth + 1), i);
+                    dead = true;
+                    break;
+                }
+                stack[++depth] = next;
+            }
+
+            previous = term;
+            validDepth = depth;
+            if (dead) {
+                continue;
+            }
+
+            if (automaton.isMatch(stack[depth])) {
+                matches.add(new Match(terms[i], automaton.distance(stack[depth]), postings[i]));
+            }
+            i++;
+        }
+
+        matches.sort((a, b) -> Integer.compare(a.distance(), b.distance()));
+        return matches;
+    }
+
+    /**
+     * prefix로 시작하는 마지막 용어 다음 위치
+     */
+    private int skipPrefix(String prefix, int from) {
+        int index = Arrays.binarySearch(jamoTerms, from, jamoTerms.length, prefix + Character.MAX_VALUE);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private static int commonPrefix(String a, String b) {
+        int length = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < length && a.charAt(i) == b.charAt(i)) i++;
+        return i;
+    }
+
+    public record Match(String term, int distance, int[] ids) {
+    }
+
+    public static final class Builder {
+
+        // 자모 형태 → (원래 용어, 항목 ID 목록)
+        private final TreeMap<String, Entry> entries = new TreeMap<>();
+
+        public Builder add(String term, int id) {
+            if (term == null || term.isBlank()) {
+                return this;
+            }
+            Entry entry = entries.computeIfAbsent(Hangul.toJamo(term), k -> new Entry(term));
+            entry.ids.merge(id, Boolean.TRUE, (a, b) -> a);
+            return this;
+        }
+
+        public FuzzyTermDictionary build() {
+            int size = entries.size();
+            String[] jamoTerms = new String[size];
+            String[] terms = new String[size];
+            int[][] postings = new int[size][];
+
+            int i = 0;
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                jamoTerms[i] = entry.getKey();
+                terms[i] = entry.getValue().term;
+                postings[i] = entry.getValue().ids.keySet().stream().mapToInt(Integer::intValue).toArray();
+                i++;
+            }
+            return new FuzzyTermDictionary(jamoTerms, terms, postings);
+        }
+
+        private static final class Entry {
+            final String term;
+            final Map<Integer, Boolean> ids = new HashMap<>();
+
+            Entry(String term) {
+                this.term = term;
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.du.script1.util;
+
+import java.util.Locale;
+
+/**
+ * 한글 음절 → 자모 분해
+ * - "유모차" → "ㅇㅠㅁㅗㅊㅏ" 처럼 초성/중성/종성 호환 자모로 풀어 씀
+ * - 음절 하나의 오타가 자모 1~2개 차이로 줄어들어 편집 거리 비교가 자연스러워짐
+ * - 한글 음절이 아닌 문자는 소문자로만 변환
+ */
+public final class Hangul {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    private Hangul() {
+    }
+
+    public static String toJamo(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        String lower = text.toLowerCase(Locale.ROOT);
+
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (c < SYLLABLE_BASE || c > SYLLABLE_LAST) {
+                sb.append(c);
+                continue;
+            }
+
+            int code = c - SYLLABLE_BASE;
+            sb.append(CHO.charAt(code / 588));
+            sb.append(JUNG.charAt((code % 588) / 28));
+            int jong = code % 28;
+            if (jong != 0) {
+                sb.append(JONG.charAt(jong));
+            }
+        }
+        return sb.toString();
+    }
+}
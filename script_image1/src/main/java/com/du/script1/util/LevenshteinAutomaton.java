@@ -0,0 +1,99 @@
+package com.du.script1.util;
+
+import java.util.Arrays;
+
+/**
+ * 편집 거리 k 이내 문자열을 인식하는 Levenshtein 오토마톤
+ * - 상태 = 대각선 띠 안에서 거리 k 이하인 (위치, 거리) 쌍 목록 (희소 표현)
+ * - 문자 하나를 먹일 때마다 다음 상태 계산, 상태가 비면 이후 어떤 접미사로도 매칭 불가
+ * - 사전을 순회하며 접두어 단위로 상태를 재사용/가지치기할 수 있음
+ */
+public class LevenshteinAutomaton {
+
+    private final String pattern;
+    private final int maxEdits;
+
+    public LevenshteinAutomaton(String pattern, int maxEdits) {
+        this.pattern = pattern;
+        this.maxEdits = maxEdits;
+    }
+
+    public State start() {
+        int size = Math.min(maxEdits, pattern.length()) + 1;
+        int[] indices = new int[size];
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            indices[i] = i;
+            values[i] = i;
+        }
+        return new State(indices, values, size);
+    }
+
+    public State step(State state, char c) {
+        int[] indices = new int[state.size + 1];
+        int[] values = new int[state.size + 1];
+        int size = 0;
+
+        // 패턴 앞에 문자 삽입
+        if (state.size > 0 && state.indices[0] == 0 && state.values[0] < maxEdits) {
+            indices[size] = 0;
+            values[size] = state.values[0] + 1;
+            size++;
+        }
+
+        for (int j = 0; j < state.size; j++) {
+            int i = state.indices[j];
+            if (i == pattern.length()) break;
+
+            // 치환/일치
+            int value = state.values[j] + (pattern.charAt(i) == c ? 0 : 1);
+            // 삭제 (같은 행의 왼쪽 칸)
+            if (size > 0 && indices[size - 1] == i) {
+                value = Math.min(value, values[size - 1] + 1);
+            }
+            // 삽입 (이전 행의 다음 칸)
+            if (j + 1 < state.size && state.indices[j + 1] == i + 1) {
+                value = Math.min(value, state.values[j + 1] + 1);
+            }
+
+            if (value <= maxEdits) {
+                indices[size] = i + 1;
+                values[size] = value;
+                size++;
+            }
+        }
+        return new State(indices, values, size);
+    }
+
+    public boolean isMatch(State state) {
+        return state.size > 0 && state.indices[state.size - 1] == pattern.length();
+    }
+
+    /**
+     * 매칭 시 편집 거리 (isMatch 일 때만 의미 있음)
+     */
+    public int distance(State state) {
+        return state.values[state.size - 1];
+    }
+
+    public boolean canMatch(State state) {
+        return state.size > 0;
+    }
+
+    public static final class State {
+        private final int[] indices;
+        private final int[] values;
+        private final int size;
+
+        private State(int[] indices, int[] values, int size) {
+            this.indices = indices;
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(Arrays.copyOf(indices, size)) + "=" + Arrays.toString(Arrays.copyOf(values, size));
+        }
+    }
+}
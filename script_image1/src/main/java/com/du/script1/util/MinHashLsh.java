@@ -0,0 +1,183 @@
+package com.du.script1.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash 서명 + LSH 밴딩 인덱스
+ * - 서명: 슁글 집합마다 numHashes개의 최소 해시값 (Jaccard 유사도 추정용)
+ * - 밴딩: 서명을 bands개 구간으로 나눠 구간이 완전히 같은 항목끼리만 후보로 묶음
+ *   → 유사도가 (1/bands)^(1/rows) 근처 이상인 쌍을 전체 비교 없이 찾음
+ * - 서명은 항목 순서대로 하나의 int 배열에 저장, 빌드 후 불변
+ */
+public class MinHashLsh {
+
+    private final int numHashes;
+    private final int bands;
+    private final int rows;
+    private final int size;
+    private final int[] signatures;
+    private final Map<Long, int[]>[] buckets;
+
+    private MinHashLsh(int numHashes, int bands, int size, int[] signatures, Map<Long, int[]>[] buckets) {
+        this.numHashes = numHashes;
+        this.bands = bands;
+        this.rows = numHashes / bands;
+        this.size = size;
+        this.signatures = signatures;
+        this.buckets = buckets;
+    }
+
+    public static Builder builder(int numHashes, int bands, long seed) {
+        if (bands <= 0 || numHashes % bands != 0) {
+            throw new IllegalArgumentException("numHashes는 bands의 배수여야 합니다: " + numHashes + "/" + bands);
+        }
+        return new Builder(numHashes, bands, seed);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 같은 밴드 버킷을 하나라도 공유하는 후보 (자기 자신 제외)
+     */
+    public int[] candidates(int id) {
+        Set<Integer> seen = new HashSet<>();
+        int count = 0;
+        int[] result = new int[16];
+
+        for (int band = 0; band < bands; band++) {
+            int[] members = buckets[band].get(bandKey(signatures, id * numHashes, band, rows));
+            if (members == null) continue;
+
+            for (int other : members) {
+                if (other == id || !seen.add(other)) continue;
+                if (count == result.length) {
+                    result = Arrays.copyOf(result, count * 2);
+                }
+                result[count++] = other;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 서명 일치 비율 = Jaccard 유사도 추정값
+     */
+    public double similarity(int a, int b) {
+        int offsetA = a * numHashes;
+        int offsetB = b * numHashes;
+        int equal = 0;
+        for (int i = 0; i < numHashes; i++) {
+            if (signatures[offsetA + i] == signatures[offsetB + i]) equal++;
+        }
+        return (double) equal / numHashes;
+    }
+
+    /**
+     * 밴드 구간 해시 (FNV-1a 변형)
+     */
+    private static long bandKey(int[] signatures, int offset, int band, int rows) {
+        long hash = 0xcbf29ce484222325L ^ band;
+        int start = offset + band * rows;
+        for (int i = start; i < start + rows; i++) {
+            hash ^= signatures[i];
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * 64비트 믹서 (SplitMix64 finalizer)
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long hashShingle(String shingle) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : shingle.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    public static final class Builder {
+
+        private final int numHashes;
+        private final int bands;
+        private final long[] seeds;
+        private int[] signatures = new int[0];
+        private int size;
+
+        private Builder(int numHashes, int bands, long seed) {
+            this.numHashes = numHashes;
+            this.bands = bands;
+            this.seeds = new SplittableRandom(seed).longs(numHashes).toArray();
+        }
+
+        /**
+         * 항목 추가 - 반환값이 항목 ID (0부터 순서대로)
+         */
+        public int add(Collection<String> shingles) {
+            if ((size + 1) * numHashes > signatures.length) {
+                signatures = Arrays.copyOf(signatures, Math.max(numHashes * 64, signatures.length * 2));
+            }
+
+            int offset = size * numHashes;
+            Arrays.fill(signatures, offset, offset + numHashes, Integer.MAX_VALUE);
+            for (String shingle : shingles) {
+                long base = hashShingle(shingle);
+                for (int i = 0; i < numHashes; i++) {
+                    int value = (int) (mix(base ^ seeds[i]) >>> 33);
+                    if (value < signatures[offset + i]) {
+                        signatures[offset + i] = value;
+                    }
+                }
+            }
+            return size++;
+        }
+
+        @SuppressWarnings("unchecked")
+        public MinHashLsh build() {
+            int rows = numHashes / bands;
+            int[] finalSignatures = Arrays.copyOf(signatures, size * numHashes);
+
+            Map<Long, int[]>[] buckets = new Map[bands];
+            long[] keys = new long[size];
+            for (int band = 0; band < bands; band++) {
+                // 1차: 버킷 크기 집계, 2차: 정확한 크기의 배열에 채움
+                Map<Long, Integer> counts = new HashMap<>();
+                for (int id = 0; id < size; id++) {
+                    keys[id] = bandKey(finalSignatures, id * numHashes, band, rows);
+                    counts.merge(keys[id], 1, Integer::sum);
+                }
+
+                // 단독 버킷은 후보를 만들지 않으므로 제외해 메모리 절약
+                Map<Long, int[]> bucket = new HashMap<>();
+                Map<Long, Integer> filled = new HashMap<>();
+                for (int id = 0; id < size; id++) {
+                    int count = counts.get(keys[id]);
+                    if (count < 2) continue;
+
+                    int[] members = bucket.computeIfAbsent(keys[id], k -> new int[count]);
+                    int position = filled.merge(keys[id], 1, Integer::sum) - 1;
+                    members[position] = id;
+                }
+                buckets[band] = bucket;
+            }
+
+            return new MinHashLsh(numHashes, bands, size, finalSignatures, buckets);
+        }
+    }
+}
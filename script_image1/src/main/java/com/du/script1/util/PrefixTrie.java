@@ -0,0 +1,169 @@
+package com.du.script1.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 접두어 자동완성용 압축 트라이 (Radix Tree)
+ * - 단일 자식 경로는 하나의 간선으로 압축
+ * - 각 노드에 가중치 상위 N개의 항목 ID를 미리 계산해 두므로 조회는 접두어 길이에만 비례
+ * - 빌드 후에는 불변이므로 여러 스레드에서 동시에 조회 가능
+ */
+public class PrefixTrie {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final Node root;
+
+    private PrefixTrie(Node root) {
+        this.root = root;
+    }
+
+    public static Builder builder(int topN) {
+        return new Builder(topN);
+    }
+
+    /**
+     * 접두어에 해당하는 상위 항목 ID (가중치 내림차순)
+     */
+    public int[] topMatches(String prefix) {
+        Node node = root;
+        int i = 0;
+
+        while (i < prefix.length()) {
+            Node child = node.child(prefix.charAt(i));
+            if (child == null) {
+                return EMPTY;
+            }
+
+            char[] label = child.label;
+            int j = 0;
+            while (j < label.length && i < prefix.length()) {
+                if (label[j] != prefix.charAt(i)) {
+                    return EMPTY;
+                }
+                i++;
+                j++;
+            }
+            node = child;
+        }
+
+        return node.top;
+    }
+
+    private static final class Node {
+        final char[] label;
+        final char[] childKeys;
+        final Node[] children;
+        final int[] top;
+
+        Node(char[] label, char[] childKeys, Node[] children, int[] top) {
+            this.label = label;
+            this.childKeys = childKeys;
+            this.children = children;
+            this.top = top;
+        }
+
+        Node child(char c) {
+            int idx = Arrays.binarySearch(childKeys, c);
+            return idx >= 0 ? children[idx] : null;
+        }
+    }
+
+    public static final class Builder {
+
+        private final int topN;
+        private final BuildNode root = new BuildNode();
+        private final List<Long> weights = new ArrayList<>();
+
+        private Builder(int topN) {
+            this.topN = topN;
+        }
+
+        /**
+         * 키 등록 - id는 0부터 순서대로 부여된 값이어야 함
+         */
+        public Builder add(String key, int id, long weight) {
+            while (weights.size() <= id) {
+                weights.add(0L);
+            }
+            weights.set(id, Math.max(weights.get(id), weight));
+
+            BuildNode node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+            }
+            node.ids.add(id);
+            return this;
+        }
+
+        public PrefixTrie build() {
+            long[] weightArray = new long[weights.size()];
+            for (int i = 0; i < weightArray.length; i++) {
+                weightArray[i] = weights.get(i);
+            }
+            return new PrefixTrie(freeze(new char[0], root, weightArray));
+        }
+
+        private Node freeze(char[] label, BuildNode node, long[] weightArray) {
+            // 단일 자식 + 종단 항목 없음 → 간선 압축
+            StringBuilder path = new StringBuilder().append(label);
+            while (node.ids.isEmpty() && node.children.size() == 1 && node != root) {
+                Map.Entry<Character, BuildNode> only = node.children.firstEntry();
+                path.append(only.getKey().charValue());
+                node = only.getValue();
+            }
+
+            char[] childKeys = new char[node.children.size()];
+            Node[] children = new Node[node.children.size()];
+            int idx = 0;
+            for (Map.Entry<Character, BuildNode> entry : node.children.entrySet()) {
+                childKeys[idx] = entry.getKey();
+                children[idx] = freeze(new char[]{entry.getKey()}, entry.getValue(), weightArray);
+                idx++;
+            }
+
+            return new Node(path.toString().toCharArray(), childKeys, children,
+                mergeTop(node.ids, children, weightArray));
+        }
+
+        private int[] mergeTop(List<Integer> ownIds, Node[] children, long[] weightArray) {
+            int total = ownIds.size();
+            for (Node child : children) {
+                total += child.top.length;
+            }
+
+            int[] candidates = new int[total];
+            int pos = 0;
+            for (int id : ownIds) {
+                candidates[pos++] = id;
+            }
+            for (Node child : children) {
+                System.arraycopy(child.top, 0, candidates, pos, child.top.length);
+                pos += child.top.length;
+            }
+
+            // 가중치 내림차순, 동률이면 ID 오름차순
+            Integer[] boxed = Arrays.stream(candidates).distinct().boxed().toArray(Integer[]::new);
+            Arrays.sort(boxed, (a, b) -> {
+                int cmp = Long.compare(weightArray[b], weightArray[a]);
+                return cmp != 0 ? cmp : Integer.compare(a, b);
+            });
+
+            int size = Math.min(topN, boxed.length);
+            int[] top = new int[size];
+            for (int i = 0; i < size; i++) {
+                top[i] = boxed[i];
+            }
+            return top;
+        }
+    }
+
+    private static final class BuildNode {
+        final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        final List<Integer> ids = new ArrayList<>(1);
+    }
+}
@@ -0,0 +1,69 @@
+package com.du.script1.util;
+
+import com.du.script1.domain.Product;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 상품 텍스트 공통 처리
+ * - 상품명 정규화 (다나와 접미사 제거 + 소문자 + 공백 정리)
+ * - 스펙 JSON(detailJson) → 항목별 값 목록
+ */
+@Slf4j
+public final class ProductText {
+
+    public static final String NAME_SUFFIX = " : 다나와 가격비교";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ProductText() {
+    }
+
+    /**
+     * 소문자 + 공백 정리 + 다나와 접미사 제거
+     */
+    public static String normalizeName(String text) {
+        if (text == null) return "";
+        return text.replace(NAME_SUFFIX, "")
+            .toLowerCase(Locale.ROOT)
+            .replaceAll("\\s+", " ")
+            .trim();
+    }
+
+    /**
+     * 스펙 항목명 → 값 목록 (배열 값은 원소별로 풀어 씀, 파싱 실패 시 빈 맵)
+     */
+    public static Map<String, List<String>> parseSpecs(Product product) {
+        if (product.getDetailJson() == null || product.getDetailJson().isEmpty()) {
+            return Map.of();
+        }
+        try {
+            Map<String, List<String>> specs = new LinkedHashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = objectMapper.readTree(product.getDetailJson()).fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                List<String> values = new ArrayList<>(1);
+                if (field.getValue().isArray()) {
+                    for (JsonNode element : field.getValue()) {
+                        values.add(element.asText().trim());
+                    }
+                } else {
+                    values.add(field.getValue().asText().trim());
+                }
+                specs.put(field.getKey(), values);
+            }
+            return specs;
+        } catch (Exception e) {
+            log.warn("스펙 파싱 실패: {}", product.getPcode());
+            return Map.of();
+        }
+    }
+}
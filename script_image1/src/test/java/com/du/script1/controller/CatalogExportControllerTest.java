@@ -0,0 +1,124 @@
+package com.du.script1.controller;
+
+import com.du.script1.service.CatalogExportService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 실제 서버(H2 + 시작 시 CSV 로드)에 /api/export/catalog 요청
+ * - MyBatis 커서 + 비동기 스트리밍이 Boot 4 에서 끝까지 동작하는지 확인
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "catalog.export.max-concurrent=1")
+class CatalogExportControllerTest {
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private CatalogExportService catalogExportService;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private HttpResponse<byte[]> get(String pathAndQuery) throws Exception {
+        URI uri = URI.create("http://localhost:" + environment.getProperty("local.server.port") + pathAndQuery);
+        return httpClient.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static List<String> lines(byte[] body) throws Exception {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8))) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * 이전 요청의 슬롯은 스트리밍 스레드에서 응답 완료 직후 반환되므로 잠시 대기
+     */
+    private void holdPermit() throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!catalogExportService.tryAcquirePermit()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("내보내기 슬롯이 반환되지 않음");
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    @Test
+    void exportsSelectedColumnsAsCsv() throws Exception {
+        HttpResponse<byte[]> response = get("/api/export/catalog?columns=pcode,productName");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/csv"));
+        List<String> lines = lines(response.body());
+        assertEquals("pcode,productName", lines.get(0));
+        assertTrue(lines.size() > 1);
+        assertTrue(lines.get(1).matches("\\d+,.+"), lines.get(1));
+    }
+
+    @Test
+    void exportsGzippedNdjson() throws Exception {
+        HttpResponse<byte[]> response = get("/api/export/catalog?format=ndjson&columns=pcode,priceMin&gzip=true");
+
+        assertEquals(200, response.statusCode());
+        byte[] body;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            body = in.readAllBytes();
+        }
+        List<String> lines = lines(body);
+        assertFalse(lines.isEmpty());
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertEquals(2, first.size());
+        assertTrue(first.get("pcode").isNumber());
+    }
+
+    @Test
+    void unknownColumnIsBadRequest() throws Exception {
+        HttpResponse<byte[]> response = get("/api/export/catalog?columns=pcode,password");
+
+        assertEquals(400, response.statusCode());
+    }
+
+    @Test
+    void exportBeyondConcurrencyLimitIsRejected() throws Exception {
+        holdPermit();
+        try {
+            HttpResponse<byte[]> response = get("/api/export/catalog?columns=pcode");
+
+            assertEquals(429, response.statusCode());
+            assertTrue(response.headers().firstValue("Retry-After").isPresent());
+        } finally {
+            catalogExportService.releasePermit();
+        }
+
+        // 거절된 요청은 슬롯을 소비하지 않음
+        holdPermit();
+        catalogExportService.releasePermit();
+    }
+}
@@ -0,0 +1,68 @@
+package com.du.script1.service;
+
+import com.du.script1.service.CatalogExportService.Column;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogExportServiceTest {
+
+    private final CatalogExportService service = new CatalogExportService(null, null, 1);
+
+    private static String csvField(Object value) {
+        StringBuilder line = new StringBuilder();
+        CatalogExportService.appendCsvField(line, value);
+        return line.toString();
+    }
+
+    @Test
+    void plainValuesAreNotQuoted() {
+        assertEquals("", csvField(null));
+        assertEquals("12345", csvField(12345L));
+        assertEquals("다이치 유모차", csvField("다이치 유모차"));
+    }
+
+    @Test
+    void separatorsAndQuotesAreQuoted() {
+        assertEquals("\"a,b\"", csvField("a,b"));
+        assertEquals("\"say \"\"hi\"\"\"", csvField("say \"hi\""));
+        assertEquals("\"line1\nline2\"", csvField("line1\nline2"));
+        assertEquals("\"a\rb\"", csvField("a\rb"));
+        assertEquals("\"{\"\"1\"\":[{\"\"price\"\":100}]}\"", csvField("{\"1\":[{\"price\":100}]}"));
+    }
+
+    @Test
+    void blankColumnsMeanAll() {
+        assertEquals(List.of(Column.values()), service.parseColumns(null));
+        assertEquals(List.of(Column.values()), service.parseColumns(" "));
+    }
+
+    @Test
+    void columnsAreTrimmedAndDeduplicated() {
+        assertEquals(List.of(Column.PCODE, Column.PRICE_MIN),
+            service.parseColumns(" pcode, priceMin ,pcode"));
+    }
+
+    @Test
+    void columnsOutsideWhitelistAreRejected() {
+        // SELECT 절에 그대로 들어가므로 DB 컬럼명이나 임의 SQL 은 거부
+        assertThrows(IllegalArgumentException.class, () -> service.parseColumns("pcode,password"));
+        assertThrows(IllegalArgumentException.class, () -> service.parseColumns("product_name"));
+        assertThrows(IllegalArgumentException.class, () -> service.parseColumns("pcode FROM product; DROP TABLE product --"));
+        assertThrows(IllegalArgumentException.class, () -> service.parseColumns("pcode,,priceMin"));
+    }
+
+    @Test
+    void permitsAreCapped() {
+        assertTrue(service.tryAcquirePermit());
+        assertFalse(service.tryAcquirePermit());
+
+        service.releasePermit();
+        assertTrue(service.tryAcquirePermit());
+    }
+}
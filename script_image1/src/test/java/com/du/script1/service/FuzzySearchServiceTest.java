@@ -0,0 +1,67 @@
+package com.du.script1.service;
+
+import com.du.script1.domain.Product;
+import com.du.script1.event.CatalogLoadedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FuzzySearchServiceTest {
+
+    private final FuzzySearchService service = loadedService();
+
+    private static FuzzySearchService loadedService() {
+        FuzzySearchService service = new FuzzySearchService();
+        service.onCatalogLoaded(new CatalogLoadedEvent(1L, List.of(
+            Product.builder().pcode(1L).productName("다이치 유모차 : 다나와 가격비교")
+                .detailJson("{\"제조회사\":\"다이치\",\"형태\":\"디럭스형\"}").build(),
+            Product.builder().pcode(2L).productName("스마트 트라이크").build(),
+            Product.builder().pcode(3L).productName("카시트겸용 바구니").build(),
+            Product.builder().pcode(4L).productName("아기띠").build(),
+            Product.builder().pcode(5L).productName("휴대용 욕조").build()
+        )));
+        return service;
+    }
+
+    @Test
+    void oneSyllableTypoFindsProduct() {
+        assertEquals(List.of(1L), service.searchPcodes("유무차", Set.of(), 10));
+    }
+
+    @Test
+    void specValuesAreSearchable() {
+        assertEquals(List.of(1L), service.searchPcodes("디럭스헝", Set.of(), 10));
+    }
+
+    @Test
+    void splitOffSyllableIsJoinedBeforeLengthFilter() {
+        assertEquals(List.of(2L), service.searchPcodes("트라이 크", Set.of(), 10));
+        assertEquals(List.of(1L), service.searchPcodes("유모 차", Set.of(), 10));
+    }
+
+    @Test
+    void joinIsIndependentOfKeywordOrder() {
+        // 검색 캐시 키는 키워드를 정렬하므로 "카시트 겸용" 이 "겸용 카시트" 로 들어옴
+        assertEquals(List.of(3L), service.searchPcodes("겸용 카시트", Set.of(), 10));
+        assertEquals(List.of(3L), service.searchPcodes("카시트 겸용", Set.of(), 10));
+    }
+
+    @Test
+    void nonAdjacentKeywordsAreJoined() {
+        // 정렬된 키 "용 유모차 휴대" 에서 "휴대" 와 "용" 은 인접하지 않음
+        assertEquals(Set.of(1L, 5L), new HashSet<>(service.searchPcodes("용 유모차 휴대", Set.of(), 10)));
+        assertEquals(Set.of(1L, 5L), new HashSet<>(service.searchPcodes("휴대 용 유모차", Set.of(), 10)));
+        assertEquals(List.of(5L), service.searchPcodes("용 아기 휴대", Set.of(), 10));
+    }
+
+    @Test
+    void excludedProductsAndLimitAreApplied() {
+        assertTrue(service.searchPcodes("유무차", Set.of(1L), 10).isEmpty());
+        assertEquals(1, service.searchPcodes("유무차 트라이크", Set.of(), 1).size());
+    }
+}
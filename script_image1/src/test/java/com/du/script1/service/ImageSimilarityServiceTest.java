@@ -0,0 +1,139 @@
+package com.du.script1.service;
+
+import com.du.script1.domain.Product;
+import com.du.script1.event.CatalogLoadedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImageSimilarityServiceTest {
+
+    private static final String QUOTED_NAME = "스토케 \"익스플로리\" \\ 유모차 😀 : 다나와 가격비교";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ImageSimilarityService service = new ImageSimilarityService(loadedFragments());
+
+    private static ProductJsonFragments loadedFragments() {
+        ProductJsonFragments fragments = new ProductJsonFragments();
+        fragments.onCatalogLoaded(new CatalogLoadedEvent(1L, List.of(
+            Product.builder().pcode(100L).productName(QUOTED_NAME)
+                .priceMin(1_290_000).priceMax(1_450_000).url("https://example.com/100").image("100.jpg").build(),
+            Product.builder().pcode(200L).productName("휴대용 유모차").build()
+        )));
+        return fragments;
+    }
+
+    private JsonNode images(String json) throws Exception {
+        return objectMapper.readTree(json);
+    }
+
+    /**
+     * 기존 Map 기반 응답의 이미지 항목
+     */
+    private static Map<String, Object> legacyItem(String productId, String imageName, double similarity,
+                                                  String productName, Integer priceMin, Integer priceMax) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("productId", productId);
+        item.put("imageName", imageName);
+        item.put("similarity", similarity);
+        if (productName != null || priceMin != null || priceMax != null) {
+            item.put("productName", productName);
+            item.put("priceMin", priceMin);
+            item.put("priceMax", priceMax);
+        }
+        return item;
+    }
+
+    @Test
+    void assembledBytesMatchLegacyShape() throws Exception {
+        byte[] body = service.writeSuccess("1", images("""
+            [
+              {"product_id": "1.jpg", "image_name": "1.jpg", "similarity": 1.0},
+              {"product_id": "100.jpg", "image_name": "100.jpg", "similarity": 0.91},
+              {"product_id": "200", "image_name": "200.jpg", "similarity": 0.5}
+            ]"""));
+
+        JsonNode actual = objectMapper.readTree(body);
+
+        assertEquals(true, actual.get("success").asBoolean());
+        assertEquals("1", actual.get("queryProductId").asText());
+        assertEquals(2, actual.get("totalResults").asInt());
+        assertEquals(List.of("queryProductId", "similarImages", "success", "totalResults"), fieldNames(actual));
+
+        List<Map<String, Object>> legacy = List.of(
+            legacyItem("100.jpg", "100.jpg", 0.91, QUOTED_NAME, 1_290_000, 1_450_000),
+            legacyItem("200", "200.jpg", 0.5, "휴대용 유모차", null, null));
+
+        JsonNode items = actual.get("similarImages");
+        assertEquals(legacy.size(), items.size());
+        for (int i = 0; i < legacy.size(); i++) {
+            JsonNode item = items.get(i);
+            legacy.get(i).forEach((key, value) ->
+                assertEquals(asJson(value), item.get(key), key));
+            // 사전 인코딩 조각이 더하는 필드는 pcode/url/image 뿐
+            Set<String> extra = new TreeSet<>(fieldNames(item));
+            extra.removeAll(legacy.get(i).keySet());
+            assertEquals(Set.of("image", "pcode", "url"), extra);
+        }
+        assertEquals(QUOTED_NAME, items.get(0).get("productName").asText());
+    }
+
+    @Test
+    void missingFragmentOrNonNumericIdKeepsImageFieldsOnly() throws Exception {
+        byte[] body = service.writeSuccess("1", images("""
+            [
+              {"product_id": "999.jpg", "image_name": "999.jpg", "similarity": 0.8},
+              {"product_id": "abc.jpg", "image_name": "abc.jpg", "similarity": 0.7}
+            ]"""));
+
+        JsonNode actual = objectMapper.readTree(body);
+
+        assertEquals(2, actual.get("totalResults").asInt());
+        assertEquals(asJson(legacyItem("999.jpg", "999.jpg", 0.8, null, null, null)),
+            actual.get("similarImages").get(0));
+        assertEquals(asJson(legacyItem("abc.jpg", "abc.jpg", 0.7, null, null, null)),
+            actual.get("similarImages").get(1));
+    }
+
+    @Test
+    void emptyOrMissingImagesProduceEmptyArray() throws Exception {
+        for (JsonNode imagesNode : new JsonNode[]{images("[]"), null, images("[{\"product_id\":\"1\",\"image_name\":\"1.jpg\",\"similarity\":1.0}]")}) {
+            JsonNode actual = objectMapper.readTree(service.writeSuccess("\"q\"", imagesNode));
+
+            assertEquals("\"q\"", actual.get("queryProductId").asText());
+            assertTrue(actual.get("similarImages").isArray());
+            assertEquals(0, actual.get("similarImages").size());
+            assertEquals(0, actual.get("totalResults").asInt());
+        }
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        names.sort(null);
+        return names;
+    }
+
+    /**
+     * 기존 방식(Map → ObjectMapper)으로 직렬화한 뒤 다시 읽은 트리 - 숫자 노드 타입까지 동일하게 비교
+     */
+    private JsonNode asJson(Object value) {
+        try {
+            return objectMapper.readTree(objectMapper.writeValueAsBytes(value));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.du.script1.service;
+
+import com.du.script1.domain.Product;
+import com.du.script1.event.CatalogLoadedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PriceAnalyticsServiceTest {
+
+    private static final double EPSILON = 1e-4;
+
+    private final PriceAnalyticsService service = loadedService();
+
+    private static PriceAnalyticsService loadedService() {
+        PriceAnalyticsService service = new PriceAnalyticsService();
+        service.onCatalogLoaded(new CatalogLoadedEvent(1L, List.of(
+            // 1개월 하락, 3개월은 중간 품절(0원) 포함, 12개월은 월 단위 상승
+            Product.builder().pcode(1L).productName("하락 유모차").priceMin(90).priceBalance("""
+                {"1": [{"price": 100}, {"price": 100}, {"price": 90}, {"price": 80}],
+                 "3": [{"price": 100}, {"price": 0}, {"price": 110}],
+                 "12": [{"price": 100}, {"price": 120}]}""").build(),
+            Product.builder().pcode(2L).productName("상승 유모차").priceMin(50)
+                .priceBalance("{\"1\": [{\"price\": 40}, {\"price\": 50}]}").build(),
+            Product.builder().pcode(3L).productName("추이 없음").priceMin(70).build(),
+            Product.builder().pcode(4L).productName("고가 유모차").priceMin(1000)
+                .priceBalance("{\"1\": [{\"price\": 1000}, {\"price\": 1000}]}").build()
+        )));
+        return service;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> window(long pcode, String window) {
+        Map<String, Object> windows = (Map<String, Object>) service.getProductStats(pcode).get("windows");
+        return (Map<String, Object>) windows.get(window);
+    }
+
+    private static List<Object> pcodes(List<Map<String, Object>> items) {
+        return items.stream().map(item -> item.get("pcode")).toList();
+    }
+
+    @Test
+    void weeklyWindowStats() {
+        Map<String, Object> stats = window(1L, "1");
+
+        assertEquals(80, stats.get("min"));
+        assertEquals(100, stats.get("max"));
+        // 표준편차 sqrt(68.75) / 평균 92.5
+        assertEquals(Math.sqrt(68.75) / 92.5, (Double) stats.get("volatility"), EPSILON);
+        // 점당 -7원 / 평균 92.5원, 주 단위 데이터
+        assertEquals(-7 * 100.0 / 92.5, (Double) stats.get("slopePctPerWeek"), EPSILON);
+        assertEquals(-20.0, (Double) stats.get("changePct"), EPSILON);
+    }
+
+    @Test
+    void monthlyWindowSlopeIsConvertedToWeeks() {
+        Map<String, Object> stats = window(1L, "12");
+
+        // 점(월)당 +20원 / 평균 110원 → 주 단위 환산
+        assertEquals(20 * 100.0 / 110 / (52.0 / 12), (Double) stats.get("slopePctPerWeek"), EPSILON);
+        assertEquals(20.0, (Double) stats.get("changePct"), EPSILON);
+    }
+
+    @Test
+    void soldOutPointsAreSkippedButKeepTheirPosition() {
+        Map<String, Object> stats = window(1L, "3");
+
+        assertEquals(100, stats.get("min"));
+        assertEquals(110, stats.get("max"));
+        // 0원 점을 건너뛰어도 x축은 0, 2 → 점당 +5원
+        assertEquals(5 * 100.0 / 105, (Double) stats.get("slopePctPerWeek"), EPSILON);
+    }
+
+    @Test
+    void distanceFromAllTimeLow() {
+        Map<String, Object> stats = service.getProductStats(1L);
+
+        assertEquals(80, stats.get("allTimeLow"));
+        assertEquals(12.5, (Double) stats.get("distanceFromLowPct"), EPSILON);
+        assertEquals(List.of(4L, 1L, 2L), pcodes(service.nearAllTimeLow(10)));
+    }
+
+    @Test
+    void missingOrEmptyWindowsAreReportedAsNoData() {
+        Map<String, Object> stats = service.getProductStats(3L);
+
+        assertEquals(0, stats.get("allTimeLow"));
+        assertNull(stats.get("distanceFromLowPct"));
+        assertTrue(((Map<?, ?>) stats.get("windows")).isEmpty());
+        assertNull(window(2L, "6"));
+        assertNull(service.getProductStats(99L));
+    }
+
+    @Test
+    void risesAreExcludedFromDrops() {
+        assertEquals(List.of(1L), pcodes(service.biggestDrops("1", 10)));
+        assertTrue(service.biggestDrops("6", 10).isEmpty());
+    }
+
+    @Test
+    void mostStableAppliesPriceBand() {
+        assertEquals(List.of(4L, 1L, 2L), pcodes(service.mostStable("1", null, null, 10)));
+        assertEquals(List.of(1L, 2L), pcodes(service.mostStable("1", null, 500, 10)));
+        assertEquals(List.of(1L), pcodes(service.mostStable("1", 60, 500, 10)));
+        assertEquals(List.of(4L), pcodes(service.mostStable("1", null, null, 1)));
+    }
+
+    @Test
+    void invalidLimitOrWindowIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> service.biggestDrops("1", 0));
+        assertThrows(IllegalArgumentException.class, () -> service.mostStable("1", null, null, -1));
+        assertThrows(IllegalArgumentException.class, () -> service.nearAllTimeLow(0));
+        assertThrows(IllegalArgumentException.class, () -> service.biggestDrops("2", 10));
+    }
+}
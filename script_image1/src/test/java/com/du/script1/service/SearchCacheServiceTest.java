@@ -0,0 +1,159 @@
+package com.du.script1.service;
+
+import com.du.script1.domain.Product;
+import com.du.script1.event.CatalogIndexedEvent;
+import com.du.script1.event.CatalogLoadedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SearchCacheServiceTest {
+
+    private final List<String> searchedKeys = new ArrayList<>();
+    private final List<Product> catalog = new ArrayList<>();
+
+    private final RagService ragService = new RagService(null, null, null) {
+        @Override
+        public List<Product> searchRelevantProducts(String question) {
+            searchedKeys.add(question);
+            return catalog;
+        }
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ProductJsonFragments fragments = new ProductJsonFragments();
+    private final SearchCacheService service = new SearchCacheService(ragService, fragments, 1 << 20, 1 << 16);
+
+    private String search(String query) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.search(query, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void caseDuplicateAndOrderVariantsShareOneKey() {
+        String key = SearchCacheService.normalizeKey("Stokke 유모차");
+
+        assertEquals(key, SearchCacheService.normalizeKey("유모차 stokke"));
+        assertEquals(key, SearchCacheService.normalizeKey("  STOKKE   유모차 stokke "));
+        assertEquals("stokke 유모차", key);
+    }
+
+    @Test
+    void keyIsLocaleIndependent() {
+        Locale original = Locale.getDefault();
+        try {
+            // 터키어 로케일에서는 기본 toLowerCase() 가 "I" → "ı" 로 바뀜
+            Locale.setDefault(Locale.forLanguageTag("tr"));
+            assertEquals("icandy", SearchCacheService.normalizeKey("ICANDY"));
+        } finally {
+            Locale.setDefault(original);
+        }
+    }
+
+    @Test
+    void variantsAreServedFromCacheWithTheirOwnQuery() throws IOException {
+        service.onCatalogIndexed(new CatalogIndexedEvent(1L));
+
+        String first = search("Stokke 유모차");
+        String second = search("유모차 STOKKE stokke");
+
+        assertEquals(List.of("stokke 유모차"), searchedKeys);
+        assertEquals("{\"query\":\"Stokke 유모차\",\"totalFound\":0,\"products\":[]}", first);
+        assertEquals("{\"query\":\"유모차 STOKKE stokke\",\"totalFound\":0,\"products\":[]}", second);
+        assertEquals(1L, service.getStats().get("hitCount"));
+    }
+
+    @Test
+    void catalogVersionBumpMakesCachedEntryMiss() throws IOException {
+        service.onCatalogIndexed(new CatalogIndexedEvent(1L));
+        search("유모차");
+        search("유모차");
+        assertEquals(1, searchedKeys.size());
+
+        service.onCatalogIndexed(new CatalogIndexedEvent(2L));
+        search("유모차");
+
+        assertEquals(2, searchedKeys.size());
+        assertEquals(2L, service.getStats().get("catalogVersion"));
+    }
+
+    /**
+     * 기존 searchAndStructure 의 Map 기반 응답
+     */
+    private static Map<String, Object> legacyResponse(String query, List<Product> products) {
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (Product p : products) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("pcode", p.getPcode());
+            item.put("productName", p.getProductName());
+            item.put("priceMin", p.getPriceMin());
+            item.put("priceMax", p.getPriceMax());
+            item.put("url", p.getUrl());
+            item.put("image", p.getImage());
+            items.add(item);
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("query", query);
+        result.put("totalFound", products.size());
+        result.put("products", items);
+        return result;
+    }
+
+    @Test
+    void assembledBodyMatchesLegacyShape() throws IOException {
+        Product quoted = Product.builder().pcode(100L)
+            .productName("스토케 \"익스플로리\" \\ 유모차 😀 : 다나와 가격비교")
+            .priceMin(1_290_000).priceMax(1_450_000).url("https://example.com/100?a=1&b=2").image("100.jpg").build();
+        Product sparse = Product.builder().pcode(200L).productName("휴대용 유모차").build();
+        // 카탈로그 로드 이후 추가되어 조각이 없는 상품 → 즉석 인코딩
+        Product unindexed = Product.builder().pcode(300L).productName("new\nline\ttab").priceMin(10).build();
+
+        // 로더와 같은 순서: 파생 인덱스 재구성 → 캐시 무효화
+        fragments.onCatalogLoaded(new CatalogLoadedEvent(1L, List.of(quoted, sparse)));
+        service.onCatalogIndexed(new CatalogIndexedEvent(1L));
+        catalog.addAll(List.of(quoted, sparse, unindexed));
+
+        String query = "\"유모차\" 스토케";
+        JsonNode actual = objectMapper.readTree(search(query));
+
+        assertEquals(asJson(legacyResponse(query, catalog)), actual);
+        assertEquals(quoted.getProductName(), actual.get("products").get(0).get("productName").asText());
+
+        // 캐시 적중 시에도 동일
+        assertEquals(actual, objectMapper.readTree(search(query)));
+    }
+
+    @Test
+    void emptyResultIsValidJson() throws IOException {
+        service.onCatalogIndexed(new CatalogIndexedEvent(1L));
+
+        JsonNode actual = objectMapper.readTree(search("없는상품"));
+
+        assertEquals(asJson(legacyResponse("없는상품", List.of())), actual);
+    }
+
+    /**
+     * 기존 방식(Map → ObjectMapper)으로 직렬화한 뒤 다시 읽은 트리 - 숫자 노드 타입까지 동일하게 비교
+     */
+    private JsonNode asJson(Object value) {
+        try {
+            return objectMapper.readTree(objectMapper.writeValueAsBytes(value));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.du.script1.util;
+
+import com.du.script1.domain.Product;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CatalogSnapshotTest {
+
+    private static final int PARSER_VERSION = 1;
+
+    @TempDir
+    Path tempDir;
+
+    private final byte[] csvHash = CatalogSnapshot.hash("pcode,name\n1,유모차".getBytes(StandardCharsets.UTF_8));
+
+    private final List<Product> products = List.of(
+        Product.builder()
+            .pcode(1L)
+            .productName("유모차 A : 다나와 가격비교")
+            .url("https://example.com/1")
+            .image("1.jpg")
+            .priceMin(100_000)
+            .priceMax(150_000)
+            .priceBalance("{\"1\":[{\"price\":100000}]}")
+            .detailJson("{\"제조회사\":\"다이치\"}")
+            .build(),
+        Product.builder()
+            .pcode(2L)
+            .productName("유모차 B")
+            .build()
+    );
+
+    private CatalogSnapshot snapshot(Path file) {
+        CatalogSnapshot snapshot = new CatalogSnapshot();
+        ReflectionTestUtils.setField(snapshot, "enabled", true);
+        ReflectionTestUtils.setField(snapshot, "path", file.toString());
+        return snapshot;
+    }
+
+    @Test
+    void writeThenReadReturnsEqualProductsIncludingNullFields() {
+        CatalogSnapshot snapshot = snapshot(tempDir.resolve("catalog.snapshot"));
+        snapshot.write(csvHash, PARSER_VERSION, products);
+
+        Optional<List<Product>> read = snapshot.read(csvHash, PARSER_VERSION);
+
+        assertTrue(read.isPresent());
+        assertEquals(products, read.get());
+    }
+
+    @Test
+    void corruptedChecksumIsRejected() throws Exception {
+        Path file = tempDir.resolve("catalog.snapshot");
+        CatalogSnapshot snapshot = snapshot(file);
+        snapshot.write(csvHash, PARSER_VERSION, products);
+
+        // 헤더 뒤 본문 1바이트 변조
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[60] ^= 0x01;
+        Files.write(file, bytes);
+
+        assertFalse(snapshot.read(csvHash, PARSER_VERSION).isPresent());
+    }
+
+    @Test
+    void differentCsvHashOrParserVersionIsRejected() {
+        CatalogSnapshot snapshot = snapshot(tempDir.resolve("catalog.snapshot"));
+        snapshot.write(csvHash, PARSER_VERSION, products);
+
+        byte[] otherHash = CatalogSnapshot.hash("changed".getBytes(StandardCharsets.UTF_8));
+        assertFalse(snapshot.read(otherHash, PARSER_VERSION).isPresent());
+        assertFalse(snapshot.read(csvHash, PARSER_VERSION + 1).isPresent());
+    }
+
+    @Test
+    void rewriteReplacesExistingSnapshotWithoutLeavingTempFiles() throws Exception {
+        Path file = tempDir.resolve("catalog.snapshot");
+        CatalogSnapshot snapshot = snapshot(file);
+        snapshot.write(csvHash, PARSER_VERSION, products);
+        snapshot.read(csvHash, PARSER_VERSION);
+
+        byte[] newHash = CatalogSnapshot.hash("changed".getBytes(StandardCharsets.UTF_8));
+        snapshot.write(newHash, PARSER_VERSION, products.subList(0, 1));
+
+        assertEquals(products.subList(0, 1), snapshot.read(newHash, PARSER_VERSION).orElseThrow());
+        try (var files = Files.list(tempDir)) {
+            assertEquals(List.of(file), files.toList());
+        }
+    }
+}
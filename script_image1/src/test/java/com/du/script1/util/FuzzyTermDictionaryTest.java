@@ -0,0 +1,127 @@
+package com.du.script1.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FuzzyTermDictionaryTest {
+
+    private static Map<String, Integer> asMap(List<FuzzyTermDictionary.Match> matches) {
+        return matches.stream().collect(Collectors.toMap(
+            FuzzyTermDictionary.Match::term, FuzzyTermDictionary.Match::distance, (a, b) -> a, TreeMap::new));
+    }
+
+    private static Map<String, Integer> bruteForce(List<String> terms, String query, int maxEdits) {
+        Map<String, Integer> expected = new TreeMap<>();
+        String pattern = Hangul.toJamo(query);
+        for (String term : terms) {
+            int distance = LevenshteinAutomatonTest.editDistance(pattern, Hangul.toJamo(term));
+            if (distance <= maxEdits) {
+                expected.put(term, distance);
+            }
+        }
+        return expected;
+    }
+
+    @Test
+    void koreanTypoMatchesWithinOneJamoEdit() {
+        FuzzyTermDictionary dictionary = FuzzyTermDictionary.builder()
+            .add("유모차", 1)
+            .add("유모차커버", 2)
+            .add("카시트", 3)
+            .add("유아용품", 4)
+            .build();
+
+        List<FuzzyTermDictionary.Match> matches = dictionary.search("유무차", 1);
+
+        assertEquals(1, matches.size());
+        assertEquals("유모차", matches.get(0).term());
+        assertEquals(1, matches.get(0).distance());
+        assertArrayEquals(new int[]{1}, matches.get(0).ids());
+    }
+
+    @Test
+    void postingsMergeIdsPerTerm() {
+        FuzzyTermDictionary dictionary = FuzzyTermDictionary.builder()
+            .add("카시트", 3)
+            .add("카시트", 1)
+            .add("카시트", 3)
+            .build();
+
+        int[] ids = dictionary.search("카시트", 1).get(0).ids();
+        java.util.Arrays.sort(ids);
+        assertArrayEquals(new int[]{1, 3}, ids);
+    }
+
+    @Test
+    void matchesAfterDeadPrefixBlockAreStillFound() {
+        // "xx..." 구간은 2번째 문자에서 매칭 불가 → 통째로 건너뛴 뒤 "xy", "y", "yy" 를 찾아야 함
+        List<String> terms = List.of("xxxxa", "xxxxb", "xxxxc", "xxz", "xy", "y", "yy", "z");
+        FuzzyTermDictionary.Builder builder = FuzzyTermDictionary.builder();
+        for (int i = 0; i < terms.size(); i++) {
+            builder.add(terms.get(i), i);
+        }
+        FuzzyTermDictionary dictionary = builder.build();
+
+        Map<String, Integer> actual = asMap(dictionary.search("y", 1));
+
+        assertEquals(bruteForce(terms, "y", 1), actual);
+        assertTrue(actual.containsKey("xy"));
+        assertTrue(actual.containsKey("yy"));
+    }
+
+    @Test
+    void resultsAgreeWithBruteForceScan() {
+        Random random = new Random(7L);
+        String alphabet = "가나다라ab";
+
+        for (int round = 0; round < 200; round++) {
+            List<String> terms = new ArrayList<>();
+            FuzzyTermDictionary.Builder builder = FuzzyTermDictionary.builder();
+            int size = 1 + random.nextInt(40);
+            for (int i = 0; i < size; i++) {
+                StringBuilder term = new StringBuilder();
+                int length = 1 + random.nextInt(4);
+                for (int j = 0; j < length; j++) {
+                    term.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                if (!terms.contains(term.toString())) {
+                    terms.add(term.toString());
+                }
+                builder.add(term.toString(), i);
+            }
+            FuzzyTermDictionary dictionary = builder.build();
+
+            for (int q = 0; q < 10; q++) {
+                String query = terms.get(random.nextInt(terms.size()));
+                // 질의를 살짝 변형 (앞/뒤 문자 추가 또는 삭제)
+                if (random.nextBoolean() && query.length() > 1) {
+                    query = query.substring(1);
+                } else {
+                    query = query + alphabet.charAt(random.nextInt(alphabet.length()));
+                }
+                int maxEdits = 1 + random.nextInt(2);
+
+                List<FuzzyTermDictionary.Match> matches = dictionary.search(query, maxEdits);
+                assertEquals(bruteForce(terms, query, maxEdits), asMap(matches), query + " k=" + maxEdits);
+                for (int i = 1; i < matches.size(); i++) {
+                    assertTrue(matches.get(i - 1).distance() <= matches.get(i).distance());
+                }
+            }
+        }
+    }
+
+    @Test
+    void emptyDictionaryReturnsNothing() {
+        assertEquals(0, FuzzyTermDictionary.builder().build().search("유모차", 2).size());
+    }
+}
@@ -0,0 +1,40 @@
+package com.du.script1.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HangulTest {
+
+    @Test
+    void decomposesSyllablesIntoCompatibilityJamo() {
+        assertEquals("ㅇㅠㅁㅗㅊㅏ", Hangul.toJamo("유모차"));
+        assertEquals("ㅎㅏㄴㄱㅡㄹ", Hangul.toJamo("한글"));
+        assertEquals("ㄷㅏㄺ", Hangul.toJamo("닭"));
+    }
+
+    @Test
+    void coversFirstAndLastSyllable() {
+        assertEquals("ㄱㅏ", Hangul.toJamo("가"));
+        assertEquals("ㅎㅣㅎ", Hangul.toJamo("힣"));
+    }
+
+    @Test
+    void lowercasesAndKeepsNonSyllables() {
+        assertEquals("abc-12 ㅋㅋ ㅇㅏ", Hangul.toJamo("ABC-12 ㅋㅋ 아"));
+        assertEquals("", Hangul.toJamo(""));
+    }
+
+    @Test
+    void oneSyllableTypoBecomesSmallJamoEdit() {
+        // 유모차 → 유무차: 중성 하나만 다름
+        String expected = Hangul.toJamo("유모차");
+        String typo = Hangul.toJamo("유무차");
+        assertEquals(expected.length(), typo.length());
+        int diff = 0;
+        for (int i = 0; i < expected.length(); i++) {
+            if (expected.charAt(i) != typo.charAt(i)) diff++;
+        }
+        assertEquals(1, diff);
+    }
+}
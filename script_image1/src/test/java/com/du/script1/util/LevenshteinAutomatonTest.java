@@ -0,0 +1,87 @@
+package com.du.script1.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LevenshteinAutomatonTest {
+
+    static int editDistance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) previous[j] = j;
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static LevenshteinAutomaton.State run(LevenshteinAutomaton automaton, String text) {
+        LevenshteinAutomaton.State state = automaton.start();
+        for (int i = 0; i < text.length(); i++) {
+            state = automaton.step(state, text.charAt(i));
+        }
+        return state;
+    }
+
+    private static String randomString(Random random, String alphabet, int maxLength) {
+        int length = random.nextInt(maxLength + 1);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+
+    @Test
+    void matchesAndDistanceAgreeWithBruteForce() {
+        Random random = new Random(20240601L);
+        for (int trial = 0; trial < 20_000; trial++) {
+            String pattern = randomString(random, "abc", 6);
+            String text = randomString(random, "abc", 7);
+            int maxEdits = random.nextInt(3);
+
+            LevenshteinAutomaton automaton = new LevenshteinAutomaton(pattern, maxEdits);
+            LevenshteinAutomaton.State state = run(automaton, text);
+            int expected = editDistance(pattern, text);
+
+            String message = pattern + " / " + text + " / k=" + maxEdits;
+            assertEquals(expected <= maxEdits, automaton.isMatch(state), message);
+            if (automaton.isMatch(state)) {
+                assertEquals(expected, automaton.distance(state), message);
+            }
+        }
+    }
+
+    @Test
+    void canMatchIsFalseOnlyWhenNoExtensionCanMatch() {
+        LevenshteinAutomaton automaton = new LevenshteinAutomaton("abc", 1);
+
+        assertTrue(automaton.canMatch(run(automaton, "ab")));
+        assertTrue(automaton.canMatch(run(automaton, "xb")));
+        // "xy" 다음에 무엇이 와도 거리 2 이상
+        assertFalse(automaton.canMatch(run(automaton, "xy")));
+        assertFalse(automaton.canMatch(run(automaton, "abcde")));
+    }
+
+    @Test
+    void emptyPatternMatchesShortTexts() {
+        LevenshteinAutomaton automaton = new LevenshteinAutomaton("", 1);
+
+        assertTrue(automaton.isMatch(run(automaton, "")));
+        assertEquals(1, automaton.distance(run(automaton, "a")));
+        assertFalse(automaton.canMatch(run(automaton, "ab")));
+    }
+}
@@ -0,0 +1,82 @@
+package com.du.script1.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MinHashLshTest {
+
+    private static Set<String> shingles(int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> "s" + i).collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private static boolean contains(int[] ids, int id) {
+        return Arrays.stream(ids).anyMatch(candidate -> candidate == id);
+    }
+
+    @Test
+    void identicalSetsAreCandidatesWithSimilarityOne() {
+        MinHashLsh.Builder builder = MinHashLsh.builder(128, 32, 42L);
+        int a = builder.add(shingles(0, 50));
+        int b = builder.add(shingles(0, 50));
+        MinHashLsh lsh = builder.build();
+
+        assertEquals(1.0, lsh.similarity(a, b), 0.0);
+        assertTrue(contains(lsh.candidates(a), b));
+        assertTrue(contains(lsh.candidates(b), a));
+    }
+
+    @Test
+    void candidatesExcludeSelfAndDisjointSets() {
+        MinHashLsh.Builder builder = MinHashLsh.builder(128, 32, 42L);
+        int a = builder.add(shingles(0, 50));
+        int b = builder.add(shingles(0, 50));
+        int c = builder.add(shingles(1000, 1050));
+        MinHashLsh lsh = builder.build();
+
+        assertFalse(contains(lsh.candidates(a), a));
+        assertFalse(contains(lsh.candidates(a), c));
+        assertFalse(contains(lsh.candidates(c), b));
+        assertTrue(lsh.similarity(a, c) < 0.1);
+    }
+
+    @Test
+    void similarityEstimatesJaccard() {
+        // |A ∩ B| = 80, |A ∪ B| = 100 → Jaccard 0.8
+        MinHashLsh.Builder builder = MinHashLsh.builder(256, 64, 7L);
+        int a = builder.add(shingles(0, 90));
+        int b = builder.add(shingles(10, 100));
+        // |A ∩ C| = 30, |A ∪ C| = 150 → Jaccard 0.2
+        int c = builder.add(shingles(60, 150));
+        MinHashLsh lsh = builder.build();
+
+        assertEquals(0.8, lsh.similarity(a, b), 0.1);
+        assertEquals(0.2, lsh.similarity(a, c), 0.1);
+        assertTrue(contains(lsh.candidates(a), b));
+    }
+
+    @Test
+    void numHashesMustBeMultipleOfBands() {
+        assertThrows(IllegalArgumentException.class, () -> MinHashLsh.builder(100, 32, 1L));
+        assertThrows(IllegalArgumentException.class, () -> MinHashLsh.builder(128, 0, 1L));
+    }
+
+    @Test
+    void singleItemHasNoCandidates() {
+        MinHashLsh.Builder builder = MinHashLsh.builder(128, 32, 1L);
+        int only = builder.add(shingles(0, 10));
+        MinHashLsh lsh = builder.build();
+
+        assertEquals(1, lsh.size());
+        assertEquals(0, lsh.candidates(only).length);
+    }
+}
@@ -0,0 +1,61 @@
+package com.du.script1.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class PrefixTrieTest {
+
+    @Test
+    void prefixEndingMidEdgeReturnsSubtreeMatches() {
+        // "유모차" 아래 단일 자식 경로가 압축되어 "휴대용"/"디럭스" 간선이 생김
+        PrefixTrie trie = PrefixTrie.builder(10)
+            .add("유모차 휴대용", 0, 5)
+            .add("유모차 디럭스", 1, 7)
+            .add("카시트", 2, 9)
+            .build();
+
+        assertArrayEquals(new int[]{1, 0}, trie.topMatches("유모"));
+        assertArrayEquals(new int[]{0}, trie.topMatches("유모차 휴"));
+        assertArrayEquals(new int[]{1}, trie.topMatches("유모차 디럭"));
+        assertArrayEquals(new int[]{2}, trie.topMatches("카"));
+    }
+
+    @Test
+    void mismatchInsideEdgeOrPastKeyReturnsEmpty() {
+        PrefixTrie trie = PrefixTrie.builder(10)
+            .add("유모차 휴대용", 0, 5)
+            .add("유모차 디럭스", 1, 7)
+            .build();
+
+        assertArrayEquals(new int[0], trie.topMatches("유모차 휴가"));
+        assertArrayEquals(new int[0], trie.topMatches("유모차 휴대용 커버"));
+        assertArrayEquals(new int[0], trie.topMatches("아기띠"));
+    }
+
+    @Test
+    void topNKeepsHighestWeightsWithIdTieBreak() {
+        PrefixTrie trie = PrefixTrie.builder(3)
+            .add("ab", 0, 1)
+            .add("abc", 1, 4)
+            .add("abd", 2, 4)
+            .add("abe", 3, 9)
+            .add("a", 4, 2)
+            .build();
+
+        assertArrayEquals(new int[]{3, 1, 2}, trie.topMatches("a"));
+        assertArrayEquals(new int[]{3, 1, 2}, trie.topMatches("ab"));
+        assertArrayEquals(new int[]{1}, trie.topMatches("abc"));
+    }
+
+    @Test
+    void emptyPrefixReturnsGlobalTop() {
+        PrefixTrie trie = PrefixTrie.builder(2)
+            .add("x", 0, 1)
+            .add("y", 1, 3)
+            .add("z", 2, 2)
+            .build();
+
+        assertArrayEquals(new int[]{1, 2}, trie.topMatches(""));
+    }
+}